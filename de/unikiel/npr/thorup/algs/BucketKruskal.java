@@ -0,0 +1,101 @@
+package de.unikiel.npr.thorup.algs;
+
+import de.unikiel.npr.thorup.ds.ArrayUnionFindStructure;
+import de.unikiel.npr.thorup.ds.graph.CompressedSparseRowGraph;
+import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
+import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
+
+/**
+ * A version of <i>Kruskal</i>'s algorithm for the computation of
+ * <i>msb</i>-minimum spanning trees working on primitive arrays only.<br>
+ * <br>
+ * The edges are sorted by counting sort into one bucket per most significant
+ * bit of their weights, and the edges of the <i>msb</i>-minimum spanning tree
+ * are collected in primitive arrays, using a primitive array union-find
+ * structure. The result is emitted directly in compressed sparse row format,
+ * so no objects are created per vertex or edge.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class BucketKruskal implements MSTAlgorithm {
+	/**
+	 * Computes and returns an <i>msb</i>-minimum spanning tree of the passed
+	 * weighted, undirected graph in <i>O(m &alpha;(m, n))</i>. If the graph is
+	 * not connected, a spanning forest is returned instead, which is rejected
+	 * by {@link Thorup}.
+	 * 
+	 * @param g
+	 * 		the graph to compute an <i>msb</i>-minimum spanning tree of
+	 * @return
+	 * 		an <i>msb</i>-minimum spanning tree of g
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 */
+	public CompressedSparseRowGraph findSolution
+		(WeightedGraph<? extends WeightedEdge> g)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		int n = g.getNumberOfVertices();
+		
+		// presort edges accoding to their msb-weights
+		int[][] q = Kruskal.bucketSortEdges(g);
+		int[] sources = q[0];
+		int[] targets = q[1];
+		int[] weights = q[2];
+		
+		// collect the edges of the msb-minimum spanning tree
+		ArrayUnionFindStructure uf = new ArrayUnionFindStructure(n);
+		
+		int[] mstEdges = new int[Math.max(n - 1, 0)];
+		int numberOfMSTEdges = 0;
+		
+		for (int e = 0; e < sources.length && numberOfMSTEdges < n - 1; e++) {
+			if (uf.union(sources[e], targets[e])) {
+				mstEdges[numberOfMSTEdges++] = e;
+			}
+		}
+		
+		// count the edges leaving each vertex in both directions
+		int[] offsets = new int[n + 1];
+		
+		for (int i = 0; i < numberOfMSTEdges; i++) {
+			offsets[sources[mstEdges[i]] + 1]++;
+			offsets[targets[mstEdges[i]] + 1]++;
+		}
+		
+		for (int v = 0; v < n; v++) {
+			offsets[v + 1] += offsets[v];
+		}
+		
+		// fill the adjacency arrays
+		int[] next = new int[n];
+		int[] mstTargets = new int[2 * numberOfMSTEdges];
+		int[] mstWeights = new int[2 * numberOfMSTEdges];
+		
+		System.arraycopy(offsets, 0, next, 0, n);
+		
+		for (int i = 0; i < numberOfMSTEdges; i++) {
+			int e = mstEdges[i];
+			int u = sources[e];
+			int v = targets[e];
+			
+			mstTargets[next[u]] = v;
+			mstWeights[next[u]++] = weights[e];
+			
+			mstTargets[next[v]] = u;
+			mstWeights[next[v]++] = weights[e];
+		}
+		
+		return new CompressedSparseRowGraph(offsets, mstTargets, mstWeights);
+	}
+}
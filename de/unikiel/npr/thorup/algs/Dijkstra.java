@@ -1,6 +1,17 @@
 package de.unikiel.npr.thorup.algs;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.unikiel.npr.thorup.ds.DaryHeap;
+import de.unikiel.npr.thorup.ds.DialQueue;
+import de.unikiel.npr.thorup.ds.IntPriorityQueue;
+import de.unikiel.npr.thorup.ds.IntPriorityQueueFactory;
 import de.unikiel.npr.thorup.ds.PriorityQueue;
+import de.unikiel.npr.thorup.ds.PriorityQueueFactory;
 import de.unikiel.npr.thorup.ds.PriorityQueueItem;
 import de.unikiel.npr.thorup.ds.graph.Edge;
 import de.unikiel.npr.thorup.ds.graph.Graph;
@@ -15,6 +26,13 @@ import de.unikiel.npr.thorup.ds.graph.Graph;
  * 		1.0, 09/17/09
  */
 public class Dijkstra {
+	/**
+	 * The maximum edge weight of graphs
+	 * {@link #findShortestPaths(Graph, int)} uses a {@link DialQueue} for.
+	 * Graphs with greater edge weights are iterated using a {@link DaryHeap}.
+	 */
+	public static final int MAXIMUM_EDGE_WEIGHT_FOR_DIAL_QUEUE = 1 << 16;
+	
 	/**
 	 * The predecessors of all vertices of the checked graph on their way to
 	 * the source vertex.
@@ -27,6 +45,44 @@ public class Dijkstra {
 	 */
 	private int[] distances;
 	
+	/**
+	 * The priority queue items of all vertices reached by the current bounded
+	 * query, indexed by vertex. Reused by all bounded queries on graphs with
+	 * the same number of vertices, and cleared after every query.
+	 */
+	private PriorityQueueItem<?>[] boundedItems;
+	
+	/**
+	 * Whether the distance of each vertex has already been fixed by the
+	 * current bounded query, indexed by vertex. Reused and cleared just like
+	 * {@link #boundedItems}.
+	 */
+	private boolean[] settled;
+	
+	/**
+	 * The indices of all vertices reached by the current bounded query, used
+	 * for clearing {@link #boundedItems} and {@link #settled} afterwards.
+	 */
+	private int[] reachedVertices;
+	
+	/**
+	 * The graph the priority queue used by
+	 * {@link #findShortestPaths(Graph, int)} has been chosen for.
+	 */
+	private Graph<? extends Edge> automaticQueueGraph;
+	
+	/**
+	 * The number of edges of {@link #automaticQueueGraph} at the time the
+	 * priority queue has been chosen for it.
+	 */
+	private int automaticQueueNumberOfEdges;
+	
+	/**
+	 * The priority queue chosen for {@link #automaticQueueGraph}, reused by
+	 * all queries on that graph, and cleared before every query.
+	 */
+	private IntPriorityQueue automaticQueue;
+	
 
 	/**
 	 * Iterates the passed weighted graph, computing the paths from the passed
@@ -60,6 +116,57 @@ public class Dijkstra {
 			throw new IllegalArgumentException(errorMessage);
 		}
 		
+		findShortestPaths(g, u, q,
+				new PriorityQueueItem<?>[g.getNumberOfVertices()]);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the paths from the passed
+	 * source vertex to all others, including their corresponding distances,
+	 * just like {@link #findShortestPaths(Graph, int, PriorityQueue)}, but
+	 * reusing the passed priority queue and array for the priority queue
+	 * items of all vertices. The queue is cleared first, so heaps
+	 * preallocating their containers, like
+	 * {@link de.unikiel.npr.thorup.ds.FibonacciHeap#FibonacciHeap(int)},
+	 * hand out the same containers for every query, and the passed array is
+	 * overwritten.
+	 * 
+	 * @param <U>
+	 * 		the type of the containers holding the vertices of the passed
+	 * 		priority queue
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @param q 
+	 * 		the priority queue used for maintaining the order the vertices are
+	 * 		visited in
+	 * @param items
+	 * 		the array used for holding the priority queue items of all
+	 * 		vertices, with at least as many entries as <code>g</code> has
+	 * 		vertices
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>items</code> has less entries than <code>g</code> has
+	 * 		vertices
+	 * @see #getDistances()
+	 * @see #getPredecessors()
+	 */
+	public <U extends PriorityQueueItem<Integer>> void findShortestPaths
+		(Graph<? extends Edge> g, int u, PriorityQueue<Integer, U> q,
+			PriorityQueueItem<?>[] items)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null || q == null || items == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
 		if (u < 0 || u >= g.getNumberOfVertices()){
 			String errorMessage = "The vertex with index " + u +
 				" is not within the passed graph.";
@@ -69,29 +176,37 @@ public class Dijkstra {
 		// get the number of vertices of the passed graph
 		int n = g.getNumberOfVertices();
 		
-		// initialize help arrays
-		int[] colors = new int[n];
+		if (items.length < n) {
+			String errorMessage = "The passed items array must have at " +
+				"least " + n + " entries.";
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		/*
+		 * the passed array is overwritten, and thus only holds items created
+		 * by the passed queue afterwards
+		 */
+		@SuppressWarnings("unchecked")
+		U[] queueItems = (U[])items;
+		
+		/*
+		 * initialize help arrays - vertices without item haven't been reached
+		 * yet, and vertices with a distance have already been visited
+		 */
 		predecessors = new int[n];
 		distances = new int[n];
 		
-		int white = 0;
-		int gray = 1;
-		int black = 2;
-		
 		for (int v = 0; v < n; v++) {
-			colors[v] = white;
+			queueItems[v] = null;
 			predecessors[v] = -1;
 			distances[v] = -1;
 		}
 		
-		// mark the start vertex as visited
-		colors[u] = gray;
-		
 		// initialize the priority queue
-		PriorityQueueItem<Integer>[] items = new PriorityQueueItem[n];
+		q.clear();
 		
-		PriorityQueueItem<Integer> item = q.insert(u, 0);
-		items[u] = item;
+		U item = q.insert(u, 0);
+		queueItems[u] = item;
 		
 		// extend distance tree until border is empty
 		while (!q.isEmpty()) {
@@ -101,34 +216,700 @@ public class Dijkstra {
 			int v = (int)item.getItem();
 			distances[v] = d;
 			
+			// update border and border approximation
+			int degree = g.getDegree(v);
+			
+			for (int i = 0; i < degree; i++) {
+				// get next neighbor
+				int w = g.getAdjacentVertex(v, i);
+				
+				// update approximation
+				int dw = d + g.getIncidentEdgeWeight(v, i);
+				
+				// update entry if necessary
+				if (queueItems[w] == null) {
+					predecessors[w] = v;
+					queueItems[w] = q.insert(w, dw);
+				} else if (distances[w] < 0 && queueItems[w].getKey() > dw) {
+					predecessors[w] = v;
+					q.decreaseKeyTo(queueItems[w], dw);
+				}
+			}
+		}
+	}
+	
+	
+	/**
+	 * Iterates the passed weighted graph, computing the paths from the passed
+	 * source vertex to all others, including their corresponding distances,
+	 * just like {@link #findShortestPaths(Graph, int, PriorityQueue)}, but
+	 * using the passed integer priority queue. No objects are allocated per
+	 * vertex.<br>
+	 * <br>
+	 * <i>Note that the passed priority queue is empty again after this method
+	 * has returned, and can thus be reused by subsequent queries.</i>
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @param q 
+	 * 		the empty priority queue for the vertices of <code>g</code> used
+	 * 		for maintaining the order the vertices are visited in
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if the number of elements of <code>q</code> is less than the
+	 * 		number of vertices of <code>g</code>
+	 * @see #getDistances()
+	 * @see #getPredecessors()
+	 */
+	public void findShortestPaths(Graph<? extends Edge> g, int u,
+		IntPriorityQueue q) throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null || q == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (u < 0 || u >= g.getNumberOfVertices()){
+			String errorMessage = "The vertex with index " + u +
+				" is not within the passed graph.";
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// get the number of vertices of the passed graph
+		int n = g.getNumberOfVertices();
+		
+		if (q.getNumberOfElements() < n) {
+			String errorMessage = "The passed priority queue must hold at " +
+				"least " + n + " elements.";
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// initialize help arrays
+		boolean[] visited = new boolean[n];
+		predecessors = new int[n];
+		distances = new int[n];
+		
+		for (int v = 0; v < n; v++) {
+			predecessors[v] = -1;
+			distances[v] = -1;
+		}
+		
+		/*
+		 * initialize the priority queue, keeping the tentative distances of
+		 * all vertices of the border in the distance array
+		 */
+		distances[u] = 0;
+		q.insert(u, 0);
+		
+		// extend distance tree until border is empty
+		while (!q.isEmpty()) {
+			// get next vertex for the distance tree, fixing its distance
+			int v = q.deleteMin();
+			int d = distances[v];
+			
 			// mark that vertex as visited
-			colors[v] = black;
+			visited[v] = true;
 			
 			// update border and border approximation
-			int[] a = g.getArrayOfAdjacentVertices(v);
-			int[] da = g.getArrayOfIncidentEdgeWeights(v);
+			int degree = g.getDegree(v);
 			
-			for (int i = 0; i < a.length; i++) {
+			for (int i = 0; i < degree; i++) {
 				// get next neighbor
-				int w = a[i];
+				int w = g.getAdjacentVertex(v, i);
+				
+				if (visited[w]) {
+					continue;
+				}
 				
 				// update approximation
-				int dw = d + da[i];
+				int dw = d + g.getIncidentEdgeWeight(v, i);
 				
 				// update entry if necessary
-				if (colors[w] == white ||
-					(colors[w] == gray && items[w].getKey() > dw)) {
-					colors[w] = gray;
+				if (distances[w] == -1) {
+					distances[w] = dw;
+					predecessors[w] = v;
+					q.insert(w, dw);
+				} else if (distances[w] > dw) {
+					distances[w] = dw;
 					predecessors[w] = v;
+					q.decreaseKeyTo(w, dw);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the paths from the passed
+	 * source vertex to all others, including their corresponding distances,
+	 * using the integer priority queue best suited for the graph, as chosen
+	 * by {@link #createPriorityQueue(Graph)}.<br>
+	 * <br>
+	 * <i>The queue is chosen by the first query on a graph only, and reused
+	 * by all subsequent queries on the same graph, as long as no edges are
+	 * added to it.</i>
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 * @see #getDistances()
+	 * @see #getPredecessors()
+	 */
+	public void findShortestPaths(Graph<? extends Edge> g, int u)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// choose the priority queue once per graph, and reuse it afterwards
+		if (g != automaticQueueGraph ||
+				g.getNumberOfEdges() != automaticQueueNumberOfEdges) {
+			
+			automaticQueue = createPriorityQueue(g);
+			automaticQueueGraph = g;
+			automaticQueueNumberOfEdges = g.getNumberOfEdges();
+		} else {
+			automaticQueue.clear();
+		}
+		
+		findShortestPaths(g, u, automaticQueue);
+	}
+	
+	/**
+	 * Creates the integer priority queue best suited for running
+	 * {@link #findShortestPaths(Graph, int, IntPriorityQueue)} on the passed
+	 * graph. The edge weights of the graph are scanned first: If none of
+	 * them exceeds {@link #MAXIMUM_EDGE_WEIGHT_FOR_DIAL_QUEUE}, a
+	 * {@link DialQueue} is created, taking <i>O(m + D)</i> time for the
+	 * maximum distance <i>D</i>, and a {@link DaryHeap} otherwise.<br>
+	 * <br>
+	 * <i>The returned queue can be reused by any number of queries on the
+	 * passed graph, if it is cleared before each of them.</i>
+	 * 
+	 * @param g
+	 * 		the graph to create the priority queue for
+	 * @return
+	 * 		an empty priority queue for the vertices of the passed graph
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 */
+	public static IntPriorityQueue createPriorityQueue
+		(Graph<? extends Edge> g) throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		int n = g.getNumberOfVertices();
+		
+		// find the maximum edge weight
+		int maximumEdgeWeight = 0;
+		
+		for (int v = 0; v < n; v++) {
+			int degree = g.getDegree(v);
+			
+			for (int i = 0; i < degree; i++) {
+				maximumEdgeWeight = Math.max(maximumEdgeWeight,
+						g.getIncidentEdgeWeight(v, i));
+			}
+		}
+		
+		// choose the priority queue
+		if (maximumEdgeWeight <= MAXIMUM_EDGE_WEIGHT_FOR_DIAL_QUEUE) {
+			return new DialQueue(n, maximumEdgeWeight);
+		} else {
+			return new DaryHeap(n);
+		}
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the distances of all
+	 * vertices whose distance from the passed source vertex doesn't exceed
+	 * the specified radius. Vertices outside that radius are neither visited
+	 * nor inserted into the priority queue, and all state is allocated in
+	 * proportion to the number of reached vertices only.<br>
+	 * <br>
+	 * <i>Note that the passed priority queue is cleared before the query and
+	 * after it has stopped, and can thus be reused by subsequent queries.</i>
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @param q
+	 * 		the priority queue used for maintaining the order the vertices
+	 * 		are visited in
+	 * @param radius
+	 * 		the maximum distance of the vertices to compute the distances of
+	 * @return
+	 * 		all vertices within the specified radius around the source vertex,
+	 * 		along with their distances
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>radius</code> is negative
+	 */
+	public SparseShortestPaths findShortestPathsWithin(Graph<? extends Edge> g,
+			int u, PriorityQueue<Integer, ?> q, int radius)
+		throws IllegalArgumentException {
+		
+		if (radius < 0) {
+			String errorMessage = "The radius must be non-negative.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		return findBoundedShortestPaths(g, u, q, radius, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the <code>k</code>
+	 * vertices closest to the passed source vertex, including the source
+	 * vertex itself. Stops as soon as the distances of these vertices have
+	 * been computed, and all state is allocated in proportion to the number
+	 * of reached vertices only.<br>
+	 * <br>
+	 * <i>Note that the passed priority queue is cleared before the query and
+	 * after it has stopped, and can thus be reused by subsequent queries.</i>
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @param q
+	 * 		the priority queue used for maintaining the order the vertices
+	 * 		are visited in
+	 * @param k
+	 * 		the number of vertices to compute the distances of
+	 * @return
+	 * 		the <code>k</code> vertices closest to the source vertex, along
+	 * 		with their distances, or less if less vertices are reachable
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>k</code> is less than one
+	 */
+	public SparseShortestPaths findNearestVertices(Graph<? extends Edge> g,
+			int u, PriorityQueue<Integer, ?> q, int k)
+		throws IllegalArgumentException {
+		
+		if (k < 1) {
+			String errorMessage = "k must be greater than or equal to 1.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		return findBoundedShortestPaths(g, u, q, Integer.MAX_VALUE, k);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph once for each of the passed source
+	 * vertices, computing the distances of all vertices from each of them.
+	 * The queries are run in parallel by the specified number of threads,
+	 * each one using its own priority queue created by the passed factory and
+	 * reusing it for all of its queries. The passed handler is notified
+	 * whenever a single query has been completed.
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the priority queues used for maintaining
+	 * 		the order the vertices are visited in with
+	 * @param parallelism
+	 * 		the number of threads to run the queries with
+	 * @param handler
+	 * 		the handler to pass the distances computed by each query to
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of
+	 * 		<code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	@SuppressWarnings("overloads")
+	public void findShortestPaths(Graph<? extends Edge> g, int[] sources,
+			PriorityQueueFactory factory, int parallelism,
+			ShortestPathsHandler handler) throws IllegalArgumentException {
+		
+		// check arguments
+		if (factory == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		runBatch(g, sources, factory, null, parallelism, handler);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph once for each of the passed source
+	 * vertices just like {@link #findShortestPaths(Graph, int[],
+	 * PriorityQueueFactory, int, ShortestPathsHandler)}, but using integer
+	 * priority queues created by the passed factory, such as a
+	 * {@link DaryHeap} or a {@link DialQueue}. Each queue is cleared before
+	 * every query but the first one of its thread.
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the priority queues used for maintaining
+	 * 		the order the vertices are visited in with
+	 * @param parallelism
+	 * 		the number of threads to run the queries with
+	 * @param handler
+	 * 		the handler to pass the distances computed by each query to
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of
+	 * 		<code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	@SuppressWarnings("overloads")
+	public void findShortestPaths(Graph<? extends Edge> g, int[] sources,
+			IntPriorityQueueFactory factory, int parallelism,
+			ShortestPathsHandler handler) throws IllegalArgumentException {
+		
+		// check arguments
+		if (factory == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		runBatch(g, sources, null, factory, parallelism, handler);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph once for each of the passed source
+	 * vertices, using the priority queues created by the one of the passed
+	 * factories that is not <code>null</code>.
+	 * 
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create priority queues with, or <code>null</code>
+	 * @param intFactory
+	 * 		the factory to create integer priority queues with, or
+	 * 		<code>null</code>
+	 * @param parallelism
+	 * 		the number of threads to run the queries with
+	 * @param handler
+	 * 		the handler to pass the distances computed by each query to
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed graph, sources or handler is
+	 * 		<code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of
+	 * 		<code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	private void runBatch(Graph<? extends Edge> g, int[] sources,
+			PriorityQueueFactory factory, IntPriorityQueueFactory intFactory,
+			int parallelism, ShortestPathsHandler handler)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null || sources == null || handler == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		for (int u : sources) {
+			if (u < 0 || u >= g.getNumberOfVertices()){
+				String errorMessage = "The vertex with index " + u +
+					" is not within the passed graph.";
+				throw new IllegalArgumentException(errorMessage);
+			}
+		}
+		
+		if (parallelism < 1) {
+			String errorMessage = "parallelism must be greater than or " +
+					"equal to 1.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// let all workers fetch their next query from a shared index
+		AtomicInteger nextQuery = new AtomicInteger();
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		
+		try {
+			ForkJoinTask<?>[] workers = new ForkJoinTask<?>[parallelism];
+			
+			for (int w = 0; w < parallelism; w++) {
+				workers[w] = pool.submit(new BatchWorker
+						(g, sources, nextQuery, factory, intFactory, handler));
+			}
+			
+			for (ForkJoinTask<?> worker : workers) {
+				worker.join();
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Iterates the passed weighted graph once for each of the passed source
+	 * vertices, computing the distances of all vertices from each of them,
+	 * using all available processors.
+	 * 
+	 * @see #findShortestPaths(Graph, int[], PriorityQueueFactory, int,
+	 * 		ShortestPathsHandler)
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the priority queues used for maintaining
+	 * 		the order the vertices are visited in with
+	 * @return
+	 * 		the distances of all vertices from the source vertex
+	 * 		<code>sources[i]</code> at index <code>i</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of
+	 * 		<code>g</code>
+	 */
+	@SuppressWarnings("overloads")
+	public int[][] findShortestPaths(Graph<? extends Edge> g, int[] sources,
+			PriorityQueueFactory factory) throws IllegalArgumentException {
+		
+		if (sources == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		final int[][] result = new int[sources.length][];
+		
+		findShortestPaths(g, sources, factory,
+				Runtime.getRuntime().availableProcessors(),
+				new ShortestPathsHandler() {
+					public void handleShortestPaths(int i, int[] distances) {
+						result[i] = distances;
+					}
+				});
+		
+		return result;
+	}
+	
+	/**
+	 * Iterates the passed weighted graph once for each of the passed source
+	 * vertices, computing the distances of all vertices from each of them,
+	 * using all available processors and integer priority queues created by
+	 * the passed factory.
+	 * 
+	 * @see #findShortestPaths(Graph, int[], IntPriorityQueueFactory, int,
+	 * 		ShortestPathsHandler)
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the priority queues used for maintaining
+	 * 		the order the vertices are visited in with
+	 * @return
+	 * 		the distances of all vertices from the source vertex
+	 * 		<code>sources[i]</code> at index <code>i</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of
+	 * 		<code>g</code>
+	 */
+	@SuppressWarnings("overloads")
+	public int[][] findShortestPaths(Graph<? extends Edge> g, int[] sources,
+			IntPriorityQueueFactory factory) throws IllegalArgumentException {
+		
+		if (sources == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		final int[][] result = new int[sources.length][];
+		
+		findShortestPaths(g, sources, factory,
+				Runtime.getRuntime().availableProcessors(),
+				new ShortestPathsHandler() {
+					public void handleShortestPaths(int i, int[] distances) {
+						result[i] = distances;
+					}
+				});
+		
+		return result;
+	}
+	
+	
+	/**
+	 * Iterates the passed weighted graph, computing the distances of at most
+	 * <code>k</code> vertices closest to the passed source vertex, none of
+	 * which is farther away than the specified radius.
+	 * 
+	 * @param <U>
+	 * 		the type of the containers holding the vertices of the passed
+	 * 		priority queue
+	 * @param g
+	 * 		the graph to run the algorithm on
+	 * @param u
+	 * 		the source vertex
+	 * @param q
+	 * 		the priority queue used for maintaining the order the vertices
+	 * 		are visited in
+	 * @param radius
+	 * 		the maximum distance of the vertices to compute the distances of
+	 * @param k
+	 * 		the maximum number of vertices to compute the distances of
+	 * @return
+	 * 		the reached vertices, along with their distances
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>u</code> is not a vertex of <code>g</code>
+	 */
+	private <U extends PriorityQueueItem<Integer>> SparseShortestPaths
+		findBoundedShortestPaths(Graph<? extends Edge> g, int u,
+			PriorityQueue<Integer, U> q, int radius, int k)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (u < 0 || u >= g.getNumberOfVertices()){
+			String errorMessage = "The vertex with index " + u +
+				" is not within the passed graph.";
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// reuse the help arrays of previous queries if possible
+		int n = g.getNumberOfVertices();
+		
+		if (boundedItems == null || boundedItems.length != n) {
+			boundedItems = new PriorityQueueItem<?>[n];
+			settled = new boolean[n];
+			reachedVertices = new int[16];
+		}
+		
+		/*
+		 * the help array only ever holds items created by the passed queue,
+		 * as it is cleared after every query
+		 */
+		@SuppressWarnings("unchecked")
+		U[] items = (U[])boundedItems;
+		
+		int numberOfReachedVertices = 0;
+		
+		int[] resultVertices = new int[16];
+		int[] resultDistances = new int[16];
+		int numberOfResults = 0;
+		
+		// initialize the priority queue, removing the items of other queries
+		q.clear();
+		items[u] = q.insert(u, 0);
+		reachedVertices[numberOfReachedVertices++] = u;
+		
+		// extend distance tree until the bounds are reached
+		while (!q.isEmpty() && numberOfResults < k) {
+			// get next vertex for the distance tree
+			PriorityQueueItem<Integer> item = q.deleteMin();
+			int d = (int)item.getKey();
+			int v = (int)item.getItem();
+			
+			if (d > radius) {
+				break;
+			}
+			
+			// fix its distance
+			settled[v] = true;
+			
+			if (numberOfResults == resultVertices.length) {
+				resultVertices = Arrays.copyOf(resultVertices,
+						2 * numberOfResults);
+				resultDistances = Arrays.copyOf(resultDistances,
+						2 * numberOfResults);
+			}
+			
+			resultVertices[numberOfResults] = v;
+			resultDistances[numberOfResults] = d;
+			numberOfResults++;
+			
+			// update border, ignoring vertices outside the radius
+			int degree = g.getDegree(v);
+			
+			for (int i = 0; i < degree; i++) {
+				int w = g.getAdjacentVertex(v, i);
+				int dw = d + g.getIncidentEdgeWeight(v, i);
+				
+				if (settled[w] || dw > radius) {
+					continue;
+				}
+				
+				if (items[w] == null) {
+					items[w] = q.insert(w, dw);
 					
-					if (items[w] == null) {
-						items[w] = q.insert(w, dw);
-					} else {
-						q.decreaseKeyTo(items[w], dw);
+					if (numberOfReachedVertices == reachedVertices.length) {
+						reachedVertices = Arrays.copyOf(reachedVertices,
+								2 * numberOfReachedVertices);
 					}
+					
+					reachedVertices[numberOfReachedVertices++] = w;
+				} else if (items[w].getKey() > dw) {
+					q.decreaseKeyTo(items[w], dw);
 				}
 			}
 		}
+		
+		// clean up for the next query
+		q.clear();
+		
+		for (int r = 0; r < numberOfReachedVertices; r++) {
+			items[reachedVertices[r]] = null;
+			settled[reachedVertices[r]] = false;
+		}
+		
+		return new SparseShortestPaths
+			(Arrays.copyOf(resultVertices, numberOfResults),
+			 Arrays.copyOf(resultDistances, numberOfResults));
 	}
 	
 	
@@ -155,4 +936,124 @@ public class Dijkstra {
 	public int[] getDistances() {
 		return distances;
 	}
+	
+	
+	/**
+	 * A worker running queries of a batch of single-source shortest paths
+	 * queries one after another, until all queries of the batch have been
+	 * started.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 */
+	private static class BatchWorker extends RecursiveAction {
+		/**
+		 * The serial version UID of this class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The graph to run the queries on.
+		 */
+		private Graph<? extends Edge> g;
+		
+		/**
+		 * The source vertices of all queries of the batch.
+		 */
+		private int[] sources;
+		
+		/**
+		 * The index of the next query of the batch to run, shared by all
+		 * workers of the batch.
+		 */
+		private AtomicInteger nextQuery;
+		
+		/**
+		 * The factory to create the priority queue of this worker with, or
+		 * <code>null</code> if an integer priority queue is used.
+		 */
+		private PriorityQueueFactory factory;
+		
+		/**
+		 * The factory to create the integer priority queue of this worker
+		 * with, or <code>null</code> if a priority queue is used.
+		 */
+		private IntPriorityQueueFactory intFactory;
+		
+		/**
+		 * The handler to pass the distances computed by each query to.
+		 */
+		private ShortestPathsHandler handler;
+		
+		
+		/**
+		 * Constructs a new worker running queries of the passed batch.
+		 * 
+		 * @param g
+		 * 		the graph to run the queries on
+		 * @param sources
+		 * 		the source vertices of all queries of the batch
+		 * @param nextQuery
+		 * 		the index of the next query of the batch to run
+		 * @param factory
+		 * 		the factory to create the priority queue of the new worker
+		 * 		with, or <code>null</code>
+		 * @param intFactory
+		 * 		the factory to create the integer priority queue of the new
+		 * 		worker with, or <code>null</code>
+		 * @param handler
+		 * 		the handler to pass the distances computed by each query to
+		 */
+		public BatchWorker(Graph<? extends Edge> g, int[] sources,
+				AtomicInteger nextQuery, PriorityQueueFactory factory,
+				IntPriorityQueueFactory intFactory,
+				ShortestPathsHandler handler) {
+			this.g = g;
+			this.sources = sources;
+			this.nextQuery = nextQuery;
+			this.factory = factory;
+			this.intFactory = intFactory;
+			this.handler = handler;
+		}
+		
+		
+		/**
+		 * Runs queries of the batch until all of them have been started.
+		 */
+		protected void compute() {
+			Dijkstra dijkstra = new Dijkstra();
+			PriorityQueue<Integer, ?> q = null;
+			PriorityQueueItem<?>[] items = null;
+			IntPriorityQueue intQueue = null;
+			
+			int i;
+			
+			while ((i = nextQuery.getAndIncrement()) < sources.length) {
+				// the queue and the items are reused by all queries
+				if (intFactory != null) {
+					if (intQueue == null) {
+						intQueue = intFactory.createPriorityQueue
+							(g.getNumberOfVertices());
+					} else {
+						intQueue.clear();
+					}
+					
+					dijkstra.findShortestPaths(g, sources[i], intQueue);
+				} else {
+					if (q == null) {
+						q = factory.createPriorityQueue
+							(g.getNumberOfVertices());
+						items = new PriorityQueueItem<?>
+							[g.getNumberOfVertices()];
+					}
+					
+					dijkstra.findShortestPaths(g, sources[i], q, items);
+				}
+				
+				handler.handleShortestPaths(i, dijkstra.getDistances());
+			}
+		}
+	}
 }
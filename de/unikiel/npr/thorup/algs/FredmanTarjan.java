@@ -82,10 +82,15 @@ public class FredmanTarjan implements MSTAlgorithm {
 		}
 		
 		// get a list of all edges in the original graph
-		ArrayList<WeightedEdge> initialEdges = new ArrayList<WeightedEdge>();
+		ArrayList<WeightedEdge> initialEdges = new ArrayList<WeightedEdge>(m);
 		
 		for (int v = 0; v < n; v++) {
-			initialEdges.addAll(g.getIncidentEdges(v));
+			for (int k = 0; k < g.getDegree(v); k++) {
+				initialEdges.add(new WeightedEdge
+						(v,
+						 g.getAdjacentVertex(v, k),
+						 g.getIncidentEdgeWeight(v, k)));
+			}
 		}
 			
 		// compute a minimum spanning tree
@@ -1,9 +1,9 @@
 package de.unikiel.npr.thorup.algs;
 
-import java.util.LinkedList;
-
-import de.unikiel.npr.thorup.ds.UnionFindNode;
+import de.unikiel.npr.thorup.ds.ArrayUnionFindStructure;
+import de.unikiel.npr.thorup.ds.IntUnionFindStructure;
 import de.unikiel.npr.thorup.ds.UnionFindStructure;
+import de.unikiel.npr.thorup.ds.UnionFindStructureAdapter;
 import de.unikiel.npr.thorup.ds.graph.AdjacencyListWeightedDirectedGraph;
 import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
 import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
@@ -20,11 +20,20 @@ import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
 public class Kruskal implements MSTAlgorithm {
 	/**
 	 * The union-find structure used to compute the <i>msb</i>-minimum spanning
-	 * tree.
+	 * tree, or <code>null</code> if a new {@link ArrayUnionFindStructure} is
+	 * used for each graph instead.
 	 */
 	@SuppressWarnings("unchecked")
 	private UnionFindStructure uf;
-
+	
+	/**
+	 * Constructs a new instance of <i>Kruskal</i>'s algorithm for the
+	 * computation of <i>msb</i>-minimum spanning trees which will use a
+	 * primitive array union-find structure.
+	 */
+	public Kruskal() {
+	}
+	
 	/**
 	 * Constructs a new instance of <i>Kruskal</i>'s algorithm for the
 	 * computation of <i>msb</i>-minimum spanning trees which will use the
@@ -50,90 +59,100 @@ public class Kruskal implements MSTAlgorithm {
 	 * @throws IllegalArgumentException
 	 * 		if the passed graph is <code>null</code>
 	 */
-	@SuppressWarnings("unchecked")
 	public AdjacencyListWeightedDirectedGraph<WeightedEdge> findSolution
 		(WeightedGraph<? extends WeightedEdge> g)
 		throws IllegalArgumentException {
 		
 		int n = g.getNumberOfVertices();
 		
-		UnionFindNode<Integer>[] ufNodes = new UnionFindNode[n];
-		
-		for (int i = 0; i < n; i++) {
-			ufNodes[i] = uf.makeSet(i);
-		}
+		// prepare union and find
+		IntUnionFindStructure uf = (this.uf != null)
+			? new UnionFindStructureAdapter(this.uf, n)
+			: new ArrayUnionFindStructure(n);
 		
 		// presort edges accoding to their msb-weights
-		LinkedList<WeightedEdge> q = bucketSortEdges(g);
+		int[][] q = bucketSortEdges(g);
+		int[] sources = q[0];
+		int[] targets = q[1];
+		int[] weights = q[2];
 		
 		// prepare the resulting msb-minimum spanning tree
 		AdjacencyListWeightedDirectedGraph<WeightedEdge> mst =
 			new AdjacencyListWeightedDirectedGraph<WeightedEdge>(n);
 		
-		while (mst.getNumberOfEdges() < (n - 1) * 2) {
-			WeightedEdge e = q.removeFirst();
-			
-			int cu = (Integer)uf.find(ufNodes[e.getSource()]).getItem();
-			int cv = (Integer)uf.find(ufNodes[e.getTarget()]).getItem();
+		for (int e = 0; mst.getNumberOfEdges() < (n - 1) * 2; e++) {
+			int cu = uf.find(sources[e]);
+			int cv = uf.find(targets[e]);
 			
 			if (cu != cv) {
 				mst.addEdge(new WeightedEdge
-						(e.getSource(),
-						 e.getTarget(),
-						 e.getWeight()));
+						(sources[e], targets[e], weights[e]));
 				
 				mst.addEdge(new WeightedEdge
-						(e.getTarget(),
-						 e.getSource(),
-						 e.getWeight()));
+						(targets[e], sources[e], weights[e]));
 				
-				uf.union(ufNodes[cu], ufNodes[cv]);
+				uf.union(cu, cv);
 			}
-			
+		
 		}
 		
 		return mst;
 	}
-
+	
 	/**
 	 * Sorts the edges of the passed graph according to the most significant
-	 * bits of their weights in <i>O(m)</i>.
+	 * bits of their weights in <i>O(m)</i>, using counting sort. Only one
+	 * of the two directed edges (u, v) and (v, u) is included.
 	 * 
 	 * @param g
 	 * 		the graph to sort the edges of
 	 * @return
-	 * 		a list containing the ordered edges of the passed graph
+	 * 		three arrays containing the sources, targets and weights of the
+	 * 		ordered edges of the passed graph
 	 */
-	@SuppressWarnings("unchecked")
-	private LinkedList<WeightedEdge> bucketSortEdges
-		(WeightedGraph<? extends WeightedEdge> g) {
-		
-		// initialize buckets
-		LinkedList<WeightedEdge>[] buckets =
-			new LinkedList[Thorup.msb(WeightedEdge.MAXIMUM_EDGE_WEIGHT)];
+	static int[][] bucketSortEdges(WeightedGraph<? extends WeightedEdge> g) {
+		int n = g.getNumberOfVertices();
 		
-		for (int i = 0; i < buckets.length; i++) {
-			buckets[i] = new LinkedList<WeightedEdge>();
-		}
+		// count the edges of each bucket
+		int[] bucketOffsets =
+			new int[Thorup.msb(WeightedEdge.MAXIMUM_EDGE_WEIGHT) + 2];
 		
-		// bucket edges
-		for (int v = 0; v < g.getNumberOfVertices(); v++) {
-			for (WeightedEdge e : g.getIncidentEdges(v)) {
-				if (e.getSource() < e.getTarget()) {
-					buckets[Thorup.msb(e.getWeight())].add(e);
+		for (int v = 0; v < n; v++) {
+			for (int k = 0; k < g.getDegree(v); k++) {
+				if (v < g.getAdjacentVertex(v, k)) {
+					bucketOffsets
+						[Thorup.msb(g.getIncidentEdgeWeight(v, k)) + 1]++;
 				}
 			}
 		}
 		
-		// create sorted edge array
-		LinkedList<WeightedEdge> q = new LinkedList<WeightedEdge>();
+		// compute the index of the first edge of each bucket
+		for (int i = 1; i < bucketOffsets.length; i++) {
+			bucketOffsets[i] += bucketOffsets[i - 1];
+		}
+		
+		// bucket edges
+		int numberOfEdges = bucketOffsets[bucketOffsets.length - 1];
 		
-		for (int i = 0; i < buckets.length; i++) {
-			for (WeightedEdge e : buckets[i]) {
-				q.addLast(e);
+		int[] sources = new int[numberOfEdges];
+		int[] targets = new int[numberOfEdges];
+		int[] weights = new int[numberOfEdges];
+		
+		for (int v = 0; v < n; v++) {
+			for (int k = 0; k < g.getDegree(v); k++) {
+				int w = g.getAdjacentVertex(v, k);
+				
+				if (v < w) {
+					int weight = g.getIncidentEdgeWeight(v, k);
+					int j = bucketOffsets[Thorup.msb(weight)]++;
+					
+					sources[j] = v;
+					targets[j] = w;
+					weights[j] = weight;
+				}
 			}
 		}
 		
-		return q;
+		return new int[][] {sources, targets, weights};
 	}
 }
@@ -0,0 +1,442 @@
+package de.unikiel.npr.thorup.algs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.unikiel.npr.thorup.ds.ConcurrentUnionFindStructure;
+import de.unikiel.npr.thorup.ds.graph.AdjacencyListWeightedDirectedGraph;
+import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
+import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
+
+/**
+ * A parallel version of <i>Boruvka</i>'s algorithm for the computation of
+ * <i>msb</i>-minimum spanning trees.<br>
+ * <br>
+ * Each round of the algorithm selects the edge with the minimum
+ * <i>msb</i>-weight leaving every component, and then contracts all
+ * selected edges, at least halving the number of components. Both phases
+ * are run by a fork-join pool: the edges are split into chunks of
+ * consecutive edges whose minimum edges are selected concurrently, and the
+ * selected edges of all components are contracted concurrently using a
+ * lock-free union-find structure. Ties between edges of the same
+ * <i>msb</i>-weight are broken by their indices, which ensures that the
+ * selected edges never form a cycle.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class ParallelBoruvka implements MSTAlgorithm {
+	/**
+	 * The number of edges or vertices below which a task of the fork-join
+	 * pool is not split any further.
+	 */
+	private static final int CHUNK_SIZE = 4096;
+	
+	/**
+	 * The key of a component which has not selected any edge yet.
+	 */
+	private static final long NO_EDGE = Long.MAX_VALUE;
+	
+	/**
+	 * The number of threads to compute the <i>msb</i>-minimum spanning tree
+	 * with.
+	 */
+	private int parallelism;
+	
+	/**
+	 * The sources of all edges of the current input graph.
+	 */
+	private int[] sources;
+	
+	/**
+	 * The targets of all edges of the current input graph.
+	 */
+	private int[] targets;
+	
+	/**
+	 * The indices of all edges which might still connect different
+	 * components. Every chunk of this array holds the remaining edges of its
+	 * chunk at its start.
+	 */
+	private int[] remainingEdges;
+	
+	/**
+	 * The number of remaining edges of every chunk.
+	 */
+	private int[] remainingEdgesOfChunk;
+	
+	/**
+	 * The <i>msb</i>-weights of all edges, combined with their indices for
+	 * breaking ties.
+	 */
+	private long[] keys;
+	
+	/**
+	 * The keys of the edges with the minimum <i>msb</i>-weights leaving
+	 * every component, indexed by the canonical elements of the components.
+	 */
+	private AtomicLongArray minimumEdge;
+	
+	/**
+	 * Whether the edges of the input graph are part of the <i>msb</i>-minimum
+	 * spanning tree.
+	 */
+	private boolean[] inMST;
+	
+	/**
+	 * The number of edges of the <i>msb</i>-minimum spanning tree found so
+	 * far.
+	 */
+	private AtomicInteger numberOfMSTEdges;
+	
+	/**
+	 * The components of the vertices of the input graph.
+	 */
+	private ConcurrentUnionFindStructure components;
+	
+	
+	/**
+	 * Constructs a new instance of <i>Boruvka</i>'s algorithm for the
+	 * computation of <i>msb</i>-minimum spanning trees which will use all
+	 * available processors.
+	 */
+	public ParallelBoruvka() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Constructs a new instance of <i>Boruvka</i>'s algorithm for the
+	 * computation of <i>msb</i>-minimum spanning trees which will use the
+	 * specified number of threads.
+	 * 
+	 * @param parallelism
+	 * 		the number of threads to compute the <i>msb</i>-minimum spanning
+	 * 		trees with
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	public ParallelBoruvka(int parallelism) {
+		if (parallelism < 1) {
+			String errorMessage = "parallelism must be greater than or " +
+					"equal to 1.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.parallelism = parallelism;
+	}
+	
+	
+	/**
+	 * Computes and returns an <i>msb</i>-minimum spanning tree of the passed
+	 * weighted, undirected graph in <i>O(m log(n) / p)</i>, where <i>p</i>
+	 * is the number of threads. If the graph is not connected, a spanning
+	 * forest is returned instead. <i>Thorup</i>'s algorithm needs a spanning
+	 * tree, so graphs passed to
+	 * {@link Thorup#constructMinimumSpanningTree(WeightedGraph, MSTAlgorithm)}
+	 * must be connected; a spanning forest is rejected by {@link Thorup}.
+	 * 
+	 * @param g
+	 * 		the graph to compute an <i>msb</i>-minimum spanning tree of
+	 * @return
+	 * 		an <i>msb</i>-minimum spanning tree of g
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 */
+	public AdjacencyListWeightedDirectedGraph<WeightedEdge> findSolution
+		(WeightedGraph<? extends WeightedEdge> g)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		int n = g.getNumberOfVertices();
+		
+		// collect one of the two directed edges (u, v) and (v, u)
+		int m = 0;
+		
+		for (int v = 0; v < n; v++) {
+			for (int k = 0; k < g.getDegree(v); k++) {
+				if (v < g.getAdjacentVertex(v, k)) {
+					m++;
+				}
+			}
+		}
+		
+		sources = new int[m];
+		targets = new int[m];
+		keys = new long[m];
+		
+		int[] weights = new int[m];
+		
+		for (int v = 0, e = 0; v < n; v++) {
+			for (int k = 0; k < g.getDegree(v); k++) {
+				int w = g.getAdjacentVertex(v, k);
+				
+				if (v < w) {
+					sources[e] = v;
+					targets[e] = w;
+					weights[e] = g.getIncidentEdgeWeight(v, k);
+					keys[e] = ((long)Thorup.msb(weights[e]) << 32) | e;
+					e++;
+				}
+			}
+		}
+		
+		// prepare the chunks of remaining edges
+		int numberOfChunks = (m + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		
+		remainingEdges = new int[m];
+		remainingEdgesOfChunk = new int[numberOfChunks];
+		
+		for (int e = 0; e < m; e++) {
+			remainingEdges[e] = e;
+		}
+		
+		for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+			remainingEdgesOfChunk[chunk] =
+				Math.min(CHUNK_SIZE, m - chunk * CHUNK_SIZE);
+		}
+		
+		// prepare the components
+		minimumEdge = new AtomicLongArray(n);
+		
+		for (int v = 0; v < n; v++) {
+			minimumEdge.set(v, NO_EDGE);
+		}
+		
+		inMST = new boolean[m];
+		numberOfMSTEdges = new AtomicInteger();
+		components = new ConcurrentUnionFindStructure(n);
+		
+		// run the rounds of Boruvka's algorithm
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		
+		try {
+			while (numberOfMSTEdges.get() < n - 1) {
+				pool.invoke(new SelectionTask(0, numberOfChunks));
+				
+				int numberOfMSTEdgesBefore = numberOfMSTEdges.get();
+				
+				pool.invoke(new ContractionTask(0, n));
+				
+				// stop if the graph is not connected
+				if (numberOfMSTEdges.get() == numberOfMSTEdgesBefore) {
+					break;
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+		
+		// construct the resulting msb-minimum spanning tree
+		AdjacencyListWeightedDirectedGraph<WeightedEdge> mst =
+			new AdjacencyListWeightedDirectedGraph<WeightedEdge>(n);
+		
+		for (int e = 0; e < m; e++) {
+			if (inMST[e]) {
+				mst.addEdge(new WeightedEdge
+						(sources[e], targets[e], weights[e]));
+				
+				mst.addEdge(new WeightedEdge
+						(targets[e], sources[e], weights[e]));
+			}
+		}
+		
+		// release all temporary data structures
+		sources = null;
+		targets = null;
+		remainingEdges = null;
+		remainingEdgesOfChunk = null;
+		keys = null;
+		minimumEdge = null;
+		inMST = null;
+		numberOfMSTEdges = null;
+		components = null;
+		
+		return mst;
+	}
+	
+	
+	/**
+	 * A task selecting the edges with the minimum <i>msb</i>-weights leaving
+	 * every component among the remaining edges of a range of chunks, and
+	 * removing all edges that connect vertices of the same component.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 */
+	private class SelectionTask extends RecursiveAction {
+		/**
+		 * The serial version UID of this class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The index of the first chunk of this task.
+		 */
+		private int from;
+		
+		/**
+		 * The index after the last chunk of this task.
+		 */
+		private int to;
+		
+		
+		/**
+		 * Constructs a new task selecting the minimum edges of the specified
+		 * range of chunks.
+		 * 
+		 * @param from
+		 * 		the index of the first chunk of the new task
+		 * @param to
+		 * 		the index after the last chunk of the new task
+		 */
+		public SelectionTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+		
+		
+		/**
+		 * Selects the minimum edges of the chunks of this task, splitting it
+		 * if it spans more than a single chunk.
+		 */
+		protected void compute() {
+			if (to - from > 1) {
+				int middle = (from + to) >>> 1;
+				
+				invokeAll(new SelectionTask(from, middle),
+						new SelectionTask(middle, to));
+				return;
+			}
+			
+			for (int chunk = from; chunk < to; chunk++) {
+				int start = chunk * CHUNK_SIZE;
+				int end = start + remainingEdgesOfChunk[chunk];
+				int remaining = start;
+				
+				for (int i = start; i < end; i++) {
+					int e = remainingEdges[i];
+					int cu = components.find(sources[e]);
+					int cv = components.find(targets[e]);
+					
+					// remove edges inside a component
+					if (cu == cv) {
+						continue;
+					}
+					
+					remainingEdges[remaining++] = e;
+					
+					decreaseMinimumEdge(cu, keys[e]);
+					decreaseMinimumEdge(cv, keys[e]);
+				}
+				
+				remainingEdgesOfChunk[chunk] = remaining - start;
+			}
+		}
+		
+		/**
+		 * Selects the edge with the passed key as minimum edge leaving the
+		 * specified component, if its key is less than the one of the
+		 * current minimum edge.
+		 * 
+		 * @param c
+		 * 		the canonical element of the component
+		 * @param key
+		 * 		the key of the edge leaving the component
+		 */
+		private void decreaseMinimumEdge(int c, long key) {
+			long current;
+			
+			while (key < (current = minimumEdge.get(c)) &&
+					!minimumEdge.compareAndSet(c, current, key)) {
+			}
+		}
+	}
+	
+	/**
+	 * A task contracting the minimum edges selected by all components whose
+	 * canonical elements lie in a range of vertices, adding them to the
+	 * <i>msb</i>-minimum spanning tree.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 */
+	private class ContractionTask extends RecursiveAction {
+		/**
+		 * The serial version UID of this class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The first vertex of this task.
+		 */
+		private int from;
+		
+		/**
+		 * The vertex after the last one of this task.
+		 */
+		private int to;
+		
+		
+		/**
+		 * Constructs a new task contracting the minimum edges of the
+		 * components of the specified range of vertices.
+		 * 
+		 * @param from
+		 * 		the first vertex of the new task
+		 * @param to
+		 * 		the vertex after the last one of the new task
+		 */
+		public ContractionTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+		
+		
+		/**
+		 * Contracts the minimum edges of the components of this task,
+		 * splitting it if it spans too many vertices.
+		 */
+		protected void compute() {
+			if (to - from > CHUNK_SIZE) {
+				int middle = (from + to) >>> 1;
+				
+				invokeAll(new ContractionTask(from, middle),
+						new ContractionTask(middle, to));
+				return;
+			}
+			
+			for (int c = from; c < to; c++) {
+				long key = minimumEdge.get(c);
+				
+				if (key == NO_EDGE) {
+					continue;
+				}
+				
+				minimumEdge.set(c, NO_EDGE);
+				
+				// an edge selected by both its components is added only once
+				int e = (int)key;
+				
+				if (components.union(sources[e], targets[e])) {
+					inMST[e] = true;
+					numberOfMSTEdges.incrementAndGet();
+				}
+			}
+		}
+	}
+}
@@ -49,11 +49,13 @@ public class Prim implements MSTAlgorithm {
 		u.add(0);
 		
 		Hashtable<Integer, Integer> closest = new Hashtable<Integer, Integer>();
+		int[] closestWeight = new int[g.getNumberOfVertices()];
 		
-		for (int v = 0; v < g.getNumberOfVertices(); v++) {
-			if (g.hasEdge(0, v)) {
-				closest.put(v, 0);
-			}
+		for (int k = 0; k < g.getDegree(0); k++) {
+			int v = g.getAdjacentVertex(0, k);
+			
+			closest.put(v, 0);
+			closestWeight[v] = g.getIncidentEdgeWeight(0, k);
 		}
 		
 		// 2.
@@ -67,13 +69,10 @@ public class Prim implements MSTAlgorithm {
 				}
 				
 				// get all edges (v,closest(v))
-				WeightedEdge e = (WeightedEdge) g.getEdge(v, closest.get(v));
-				if (e != null) {
-					potentialEdges.add(new WeightedEdge
-							(v,
-							 closest.get(v),
-							 e.getWeight()));
-				}
+				potentialEdges.add(new WeightedEdge
+						(v,
+						 closest.get(v),
+						 closestWeight[v]));
 			}
 			
 			// get edge with minimal weight
@@ -104,20 +103,18 @@ public class Prim implements MSTAlgorithm {
 			}
 			
 			// 5.
-			for (int v = 0; v < g.getNumberOfVertices(); v++) {
-				if (u.contains(v) || !g.hasEdge(v, v0)) {
+			for (int k = 0; k < g.getDegree(v0); k++) {
+				int v = g.getAdjacentVertex(v0, k);
+				
+				if (u.contains(v)) {
 					continue;
 				}
 				
-				if (!closest.containsKey(v)) {
+				int weight = g.getIncidentEdgeWeight(v0, k);
+				
+				if (!closest.containsKey(v) || closestWeight[v] > weight) {
 					closest.put(v, v0);
-				} else {
-					WeightedEdge e1 = g.getEdge(v, closest.get(v));
-					WeightedEdge e2 = g.getEdge(v, v0);
-					
-					if (e1.getWeight() > e2.getWeight()) {
-						closest.put(v, v0);
-					}
+					closestWeight[v] = weight;
 				}
 			}
 		}
@@ -0,0 +1,29 @@
+package de.unikiel.npr.thorup.algs;
+
+/**
+ * A handler for the results of a batch of single-source shortest paths
+ * queries, which is notified whenever a single query has been completed.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public interface ShortestPathsHandler {
+	/**
+	 * Called whenever a single query of a batch has been completed. As
+	 * queries of a batch may run in parallel, this method may be called by
+	 * several threads concurrently.<br>
+	 * <br>
+	 * <i>Note that the passed array may be reused by subsequent queries after
+	 * this method has returned; thus it must be copied if it is needed
+	 * afterwards.</i>
+	 * 
+	 * @param i
+	 * 		the index of the completed query within its batch
+	 * @param distances
+	 * 		the distances of all vertices from the source vertex of the
+	 * 		completed query
+	 */
+	void handleShortestPaths(int i, int[] distances);
+}
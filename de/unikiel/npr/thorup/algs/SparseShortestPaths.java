@@ -0,0 +1,102 @@
+package de.unikiel.npr.thorup.algs;
+
+/**
+ * The result of a bounded single-source shortest paths query, such as a
+ * bounded-radius or a k-nearest query, which only contains the vertices
+ * reached by the query along with their distances from the source vertex.
+ * The vertices are ordered by non-decreasing distance, starting with the
+ * source vertex itself.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class SparseShortestPaths {
+	/**
+	 * The indices of all vertices reached by the query, ordered by
+	 * non-decreasing distance.
+	 */
+	private int[] vertices;
+	
+	/**
+	 * The distances of all vertices reached by the query from the source
+	 * vertex; <code>distances[k]</code> is the distance of the vertex
+	 * <code>vertices[k]</code>.
+	 */
+	private int[] distances;
+	
+	
+	/**
+	 * Constructs a new sparse result of a shortest paths query, containing
+	 * the passed vertices and their distances. The passed arrays are not
+	 * copied.
+	 * 
+	 * @param vertices
+	 * 		the indices of all vertices reached by the query, ordered by
+	 * 		non-decreasing distance
+	 * @param distances
+	 * 		the distances of these vertices from the source vertex
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed arrays is <code>null</code>, or their lengths
+	 * 		differ
+	 */
+	public SparseShortestPaths(int[] vertices, int[] distances)
+		throws IllegalArgumentException {
+		
+		if (vertices == null || distances == null) {
+			String errorMessage = "The passed arrays musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (vertices.length != distances.length) {
+			String errorMessage = "The passed arrays must be of the same " +
+					"length.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.vertices = vertices;
+		this.distances = distances;
+	}
+	
+	
+	/**
+	 * Gets the number of vertices reached by the query.
+	 * 
+	 * @return
+	 * 		the number of vertices reached by the query
+	 */
+	public int getNumberOfVertices() {
+		return vertices.length;
+	}
+	
+	/**
+	 * Gets the index of the <code>k</code>-th closest vertex reached by the
+	 * query.
+	 * 
+	 * @param k
+	 * 		the rank of the vertex to get, starting at <code>0</code> for the
+	 * 		source vertex
+	 * @return
+	 * 		the index of the <code>k</code>-th closest vertex
+	 */
+	public int getVertex(int k) {
+		return vertices[k];
+	}
+	
+	/**
+	 * Gets the distance of the <code>k</code>-th closest vertex reached by
+	 * the query from the source vertex.
+	 * 
+	 * @param k
+	 * 		the rank of the vertex to get the distance of, starting at
+	 * 		<code>0</code> for the source vertex
+	 * @return
+	 * 		the distance of the <code>k</code>-th closest vertex
+	 */
+	public int getDistance(int k) {
+		return distances[k];
+	}
+}
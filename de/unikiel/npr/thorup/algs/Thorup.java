@@ -1,18 +1,44 @@
 package de.unikiel.npr.thorup.algs;
 
+import java.util.Arrays;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import de.unikiel.npr.thorup.ds.IntSplitFindminStructure;
+import de.unikiel.npr.thorup.ds.IntSplitFindminStructureFactory;
+import de.unikiel.npr.thorup.ds.IntUnionFindStructure;
 import de.unikiel.npr.thorup.ds.SplitFindminStructure;
-import de.unikiel.npr.thorup.ds.SplitFindminStructureElement;
-import de.unikiel.npr.thorup.ds.UnionFindNode;
+import de.unikiel.npr.thorup.ds.SplitFindminStructureAdapter;
+import de.unikiel.npr.thorup.ds.SplitFindminStructureFactory;
 import de.unikiel.npr.thorup.ds.UnionFindStructure;
+import de.unikiel.npr.thorup.ds.UnionFindStructureAdapter;
 import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
 import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
 
 /**
  * An implementation of <i>Thorup</i>'s single-source shortest paths
- * algorithm.
+ * algorithm.<br>
+ * <br>
+ * Once {@link #constructMinimumSpanningTree(WeightedGraph, MSTAlgorithm)} and
+ * {@link #constructOtherDataStructures(UnionFindStructure,
+ * SplitFindminStructure)} have been called, the preprocessed graph, its
+ * <i>msb</i>-minimum spanning tree and its component tree are never modified
+ * again. All state of a query is held by a {@link QueryContext}, allowing
+ * several threads to run queries on the same instance concurrently, each one
+ * using its own context created by
+ * {@link #createQueryContext(SplitFindminStructure)}. The methods
+ * {@link #cleanUpBetweenQueries(SplitFindminStructure)} and
+ * {@link #findShortestPaths(int)} share a single default context and thus
+ * must not be called concurrently.<br>
+ * <br>
+ * The unvisited data structure <i>U</i> works on an
+ * {@link IntSplitFindminStructure}. As all split-findmin structures can be
+ * reset in place, any number of queries can be run without allocating a new
+ * split-findmin structure for each one, using
+ * {@link #cleanUpBetweenQueries()}.
  * 
  * @author
  * 		<a href="mailto:npr@informatik.uni-kiel.de">Nick Pr&uuml;hs</a>
@@ -32,13 +58,6 @@ public class Thorup {
 	 */
 	private int n;
 	
-	/**
-	 * The set <i>S</i> of visited vertices of this instance of <i>Thorup</i>'s
-	 * algorithm. A vertex <i>v</i> is element of the set <i>S</i> if
-	 * <code>s[v]</code> is <code>true</code>.
-	 */
-	private boolean[] s;
-	
 	/**
 	 * The msb-minimum spanning tree <i>M</i> used to compute the component tree
 	 * <i>T</i> of <i>G</i>.
@@ -52,21 +71,23 @@ public class Thorup {
 	private ComponentTree t;
 	
 	/**
-	 * The unvisited data structure <i>U</i> this instance of <i>Thorup</i>'s 
-	 * algorithm uses.
+	 * Maps the indices of vertices to the indices of their corresponding
+	 * containers of the split-findmin structure of the unvisited data
+	 * structure <i>U</i>. The leaves of every component of <i>T</i> are
+	 * mapped to consecutive indices.
 	 */
-	private UnvisitedDataStructure u;
+	private int[] indexOfVertex;
 	
 	/**
-	 * The index of the source vertex to compute all shortest paths to.
+	 * The default query context used by {@link #findShortestPaths(int)}.
 	 */
-	private int source;
-
+	private QueryContext context;
+	
 	
 	/**
 	 * Prepares this instance of <i>Thorup</i>'s algorithm for computing the
 	 * shortest paths in the passed graph <i>G</i> by computing an <i>msb</i>-
-	 * minimum spanning tree <i>M</i> of <i>G</i>.<br>
+	 * minimum spanning tree <i>M</i> of <i>G</i>, which must be connected.<br>
 	 * <br>
 	 * Use {@link #constructOtherDataStructures(UnionFindStructure,
 	 * SplitFindminStructure)} for computing the other required data structures
@@ -117,14 +138,134 @@ public class Thorup {
 	 * @param sf
 	 * 		the split-find structure to use for the unvisited data structure
 	 * 		<i>U</i>
+	 * @throws IllegalArgumentException
+	 * 		if <i>G</i> is not connected
 	 */
-	@SuppressWarnings("unchecked")
 	public void constructOtherDataStructures(UnionFindStructure uf,
 			SplitFindminStructure<Integer> sf) {
 		
-		s = new boolean[n];
+		constructOtherDataStructures
+			(uf, new SplitFindminStructureAdapter(sf, n));
+	}
+	
+	/**
+	 * Prepares this instance of <i>Thorup</i>'s algorithm for computing the
+	 * shortest paths in the passed graph <i>G</i> just like
+	 * {@link #constructOtherDataStructures(UnionFindStructure,
+	 * SplitFindminStructure)}, but using the passed integer split-findmin
+	 * structure for the unvisited data structure <i>U</i>.
+	 * 
+	 * @see #findShortestPaths(int)
+	 * @param uf
+	 * 		the union-find structure to use for computing the component tree
+	 * 		<i>T</i>
+	 * @param sf
+	 * 		the split-findmin structure with one element per vertex of
+	 * 		<i>G</i> in its initial state to use for the unvisited data
+	 * 		structure <i>U</i>
+	 * @throws IllegalArgumentException
+	 * 		if the number of elements of <code>sf</code> differs from the
+	 * 		number of vertices of <i>G</i>
+	 * @throws IllegalArgumentException
+	 * 		if <i>G</i> is not connected
+	 */
+	public void constructOtherDataStructures(UnionFindStructure uf,
+			IntSplitFindminStructure sf) {
+		
+		constructOtherDataStructures
+			(new UnionFindStructureAdapter(uf, n), sf);
+	}
+	
+	/**
+	 * Prepares this instance of <i>Thorup</i>'s algorithm for computing the
+	 * shortest paths in the passed graph <i>G</i> just like
+	 * {@link #constructOtherDataStructures(UnionFindStructure,
+	 * IntSplitFindminStructure)}, but using the passed integer union-find
+	 * structure for computing the component tree <i>T</i>.
+	 * 
+	 * @see #findShortestPaths(int)
+	 * @param uf
+	 * 		the union-find structure with one singleton set per vertex of
+	 * 		<i>G</i> to use for computing the component tree <i>T</i>
+	 * @param sf
+	 * 		the split-findmin structure with one element per vertex of
+	 * 		<i>G</i> in its initial state to use for the unvisited data
+	 * 		structure <i>U</i>
+	 * @throws IllegalArgumentException
+	 * 		if the number of elements of <code>uf</code> or <code>sf</code>
+	 * 		differs from the number of vertices of <i>G</i>
+	 * @throws IllegalArgumentException
+	 * 		if <i>G</i> is not connected
+	 */
+	public void constructOtherDataStructures(IntUnionFindStructure uf,
+			IntSplitFindminStructure sf) {
+		
+		if (uf.getNumberOfElements() != n) {
+			String errorMessage = "The union-find structure must have " +
+				"exactly one element per vertex.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		/*
+		 * the component tree can only be built from a spanning tree, which
+		 * holds both arcs of n - 1 edges; a spanning forest of a disconnected
+		 * graph holds less
+		 */
+		if (n > 0 && m.getNumberOfEdges() < 2 * (n - 1)) {
+			String errorMessage = "The graph must be connected.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
 		t = constructT(uf);
-		u = new UnvisitedDataStructure(n, t, sf);
+		
+		indexOfVertex = new int[n];
+		initializeMapping();
+		
+		context = new QueryContext(sf);
+	}
+	
+	/**
+	 * Creates a new query context for computing shortest paths in <i>G</i>
+	 * independently of all other contexts of this instance of
+	 * <i>Thorup</i>'s algorithm. Requires all data structures to be properly
+	 * initialized.<br>
+	 * <br>
+	 * Contexts are not thread-safe themselves, but different contexts may be
+	 * used by different threads concurrently.
+	 * 
+	 * @see #constructOtherDataStructures(UnionFindStructure,
+	 * 		SplitFindminStructure)
+	 * @param sf
+	 * 		an empty split-findmin structure to be used by the unvisited data
+	 * 		structure <i>U</i> of the first query of the new context
+	 * @return
+	 * 		the new query context
+	 */
+	public QueryContext createQueryContext(SplitFindminStructure<Integer> sf) {
+		return new QueryContext(new SplitFindminStructureAdapter(sf, n));
+	}
+	
+	/**
+	 * Creates a new query context for computing shortest paths in <i>G</i>
+	 * independently of all other contexts of this instance of
+	 * <i>Thorup</i>'s algorithm, using the passed integer split-findmin
+	 * structure for its unvisited data structure <i>U</i>.
+	 * 
+	 * @see #createQueryContext(SplitFindminStructure)
+	 * @param sf
+	 * 		the split-findmin structure with one element per vertex of
+	 * 		<i>G</i> in its initial state to be used by the unvisited data
+	 * 		structure <i>U</i> of the new context
+	 * @return
+	 * 		the new query context
+	 * @throws IllegalArgumentException
+	 * 		if the number of elements of <code>sf</code> differs from the
+	 * 		number of vertices of <i>G</i>
+	 */
+	public QueryContext createQueryContext(IntSplitFindminStructure sf) {
+		return new QueryContext(sf);
 	}
 	
 	/**
@@ -143,31 +284,35 @@ public class Thorup {
 	 * 		</li>
 	 * </ol>
 	 * 
+	 * The first two steps take constant time, as all state of a query is
+	 * stamped with the number of that query.
+	 * 
 	 * @param sf
 	 * 		the new split-find structure to use for the unvisited data structure
 	 * 		<i>U</i>
 	 */
-	@SuppressWarnings("unchecked")
 	public void cleanUpBetweenQueries(SplitFindminStructure<Integer> sf) {
-		// reset S
-		s = new boolean[n];
-		
-		// mark every component as unvisited
-		deepCleanUpNodes(t.root);
-		
-		// re-initialize U
-		u.containers = new SplitFindminStructureElement[n];
-
-		for (int i = 0; i < n; i++) {
-			u.containers[i] = sf.add(i, Double.POSITIVE_INFINITY);
-		}
-
-		sf.initialize();
+		context.reset(sf);
+	}
+	
+	/**
+	 * Prepares this instance of <i>Thorup</i>'s algorithm for another query on
+	 * the same graph just like
+	 * {@link #cleanUpBetweenQueries(SplitFindminStructure)}, but
+	 * re-initializing the unvisited data structure <i>U</i> by resetting its
+	 * split-findmin structure in place.
+	 */
+	public void cleanUpBetweenQueries() {
+		context.reset();
 	}
 	
 	/**
 	 * Iterates the passed weighted graph, computing the paths from the passed
-	 * source vertex to all others.
+	 * source vertex to all others.<br>
+	 * <br>
+	 * <i>Note that the returned array is reused by the next query; thus it
+	 * must be copied if it is needed after calling
+	 * {@link #cleanUpBetweenQueries(SplitFindminStructure)}.</i>
 	 * 
 	 * @param source
 	 * 		the index of the source vertex
@@ -178,34 +323,312 @@ public class Thorup {
 	 * 		if <code>u</code> is not a vertex of <code>g</code>
 	 */
 	public int[] findShortestPaths(int source) {
-		// check the passed source vertex
-		if (source < 0 || source >= n) {
-			throw new IllegalArgumentException(source +
-					" is no valid source vertex.");
+		return context.findShortestPaths(source);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the distance of the passed
+	 * target vertex from the passed source vertex. Stops as soon as the target
+	 * vertex has been visited, thus taking time proportional to the part of
+	 * the graph explored until then rather than to the whole graph. As
+	 * <i>G</i> is required to be connected, the target vertex is always
+	 * reachable.
+	 * 
+	 * @param source
+	 * 		the index of the source vertex
+	 * @param target
+	 * 		the index of the target vertex
+	 * @return
+	 * 		the distance of the target vertex from the source vertex
+	 * @throws IllegalArgumentException
+	 * 		if <code>source</code> or <code>target</code> is not a vertex of
+	 * 		<code>g</code>
+	 */
+	public int findShortestPath(int source, int target) {
+		return context.findShortestPath(source, target);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the distances of all
+	 * vertices whose distance from the passed source vertex doesn't exceed
+	 * the specified radius.
+	 * 
+	 * @param source
+	 * 		the index of the source vertex
+	 * @param radius
+	 * 		the maximum distance of the vertices to compute the distances of
+	 * @return
+	 * 		all vertices within the specified radius around the source vertex,
+	 * 		along with their distances
+	 * @throws IllegalArgumentException
+	 * 		if <code>source</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>radius</code> is negative
+	 */
+	public SparseShortestPaths findShortestPathsWithin(int source, int radius) {
+		return context.findShortestPathsWithin(source, radius);
+	}
+	
+	/**
+	 * Iterates the passed weighted graph, computing the <code>k</code>
+	 * vertices closest to the passed source vertex, including the source
+	 * vertex itself.
+	 * 
+	 * @param source
+	 * 		the index of the source vertex
+	 * @param k
+	 * 		the number of vertices to compute the distances of
+	 * @return
+	 * 		the <code>k</code> vertices closest to the source vertex, along
+	 * 		with their distances, or less if less vertices are reachable
+	 * @throws IllegalArgumentException
+	 * 		if <code>source</code> is not a vertex of <code>g</code>
+	 * @throws IllegalArgumentException
+	 * 		if <code>k</code> is less than one
+	 */
+	public SparseShortestPaths findNearestVertices(int source, int k) {
+		return context.findNearestVertices(source, k);
+	}
+	
+	/**
+	 * Gets the predecessors of all vertices on their shortest paths from the
+	 * source vertex, as computed by the most recent query.
+	 * 
+	 * @return
+	 * 		the predecessors of all vertices on their shortest paths from the
+	 * 		source vertex
+	 * @see QueryContext#getPredecessors()
+	 */
+	public int[] getPredecessors() {
+		return context.getPredecessors();
+	}
+	
+	/**
+	 * Gets the shortest path from the source vertex of the most recent query
+	 * to the passed target vertex.
+	 * 
+	 * @param target
+	 * 		the index of the vertex to get the shortest path to
+	 * @return
+	 * 		the indices of all vertices on the shortest path, starting with the
+	 * 		source vertex and ending with the target vertex, or
+	 * 		<code>null</code> if the target vertex is unreachable
+	 * @throws IllegalArgumentException
+	 * 		if <code>target</code> is not a vertex of <code>g</code>
+	 * @throws IllegalStateException
+	 * 		if the predecessors of the target vertex don't lead back to the
+	 * 		source vertex within <i>n</i> steps
+	 * @see QueryContext#getPath(int)
+	 */
+	public int[] getPath(int target) {
+		return context.getPath(target);
+	}
+	
+	/**
+	 * Computes the distances of all vertices from each of the passed source
+	 * vertices. The queries are run in parallel by the specified number of
+	 * threads, each one using its own query context. The passed factory is
+	 * used for creating the split-findmin structures of the unvisited data
+	 * structures <i>U</i> of all threads, which are reset in place between
+	 * the queries of each thread, and the passed handler is notified
+	 * whenever a single query has been completed. Requires all data
+	 * structures to be properly initialized.
+	 * 
+	 * @see #createQueryContext(SplitFindminStructure)
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the split-findmin structures used for
+	 * 		<i>U</i> with
+	 * @param parallelism
+	 * 		the number of threads to run the queries with
+	 * @param handler
+	 * 		the handler to pass the distances computed by each query to
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of <i>G</i>
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	@SuppressWarnings("overloads")
+	public void findShortestPaths(int[] sources,
+			final SplitFindminStructureFactory<Integer> factory,
+			int parallelism, ShortestPathsHandler handler)
+		throws IllegalArgumentException {
+		
+		// check arguments
+		if (factory == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// adapt the created split-findmin structures to integer ones
+		findShortestPaths(sources, new IntSplitFindminStructureFactory() {
+			public IntSplitFindminStructure createSplitFindminStructure(int n) {
+				return new SplitFindminStructureAdapter
+					(factory.createSplitFindminStructure(n), n);
+			}
+		}, parallelism, handler);
+	}
+	
+	/**
+	 * Computes the distances of all vertices from each of the passed source
+	 * vertices just like {@link #findShortestPaths(int[],
+	 * SplitFindminStructureFactory, int, ShortestPathsHandler)}, but using
+	 * integer split-findmin structures created by the passed factory for the
+	 * unvisited data structures <i>U</i> of all threads.
+	 * 
+	 * @see #createQueryContext(IntSplitFindminStructure)
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the split-findmin structures used for
+	 * 		<i>U</i> with
+	 * @param parallelism
+	 * 		the number of threads to run the queries with
+	 * @param handler
+	 * 		the handler to pass the distances computed by each query to
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of <i>G</i>
+	 * @throws IllegalArgumentException
+	 * 		if <code>parallelism</code> is less than one
+	 */
+	@SuppressWarnings("overloads")
+	public void findShortestPaths(int[] sources,
+			IntSplitFindminStructureFactory factory, int parallelism,
+			ShortestPathsHandler handler) throws IllegalArgumentException {
+		
+		// check arguments
+		if (sources == null || factory == null || handler == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		for (int source : sources) {
+			if (source < 0 || source >= n) {
+				throw new IllegalArgumentException(source +
+						" is no valid source vertex.");
+			}
 		}
 		
-		// B.1.
-		this.source = source;
-		s[source] = true;
+		if (parallelism < 1) {
+			String errorMessage = "parallelism must be greater than or " +
+					"equal to 1.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// let all workers fetch their next query from a shared index
+		AtomicInteger nextQuery = new AtomicInteger();
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
 		
-		for (WeightedEdge edge : g.getIncidentEdges(source)) {
-			u.decreaseD(edge.getTarget(), edge.getWeight());
+		try {
+			ForkJoinTask<?>[] workers = new ForkJoinTask<?>[parallelism];
+			
+			for (int w = 0; w < parallelism; w++) {
+				workers[w] = pool.submit(new BatchWorker
+						(sources, nextQuery, factory, handler));
+			}
+			
+			for (ForkJoinTask<?> worker : workers) {
+				worker.join();
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Computes the distances of all vertices from each of the passed source
+	 * vertices, using all available processors.
+	 * 
+	 * @see #findShortestPaths(int[], SplitFindminStructureFactory, int,
+	 * 		ShortestPathsHandler)
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the split-findmin structures used for
+	 * 		<i>U</i> with
+	 * @return
+	 * 		the distances of all vertices from the source vertex
+	 * 		<code>sources[i]</code> at index <code>i</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of <i>G</i>
+	 */
+	@SuppressWarnings("overloads")
+	public int[][] findShortestPaths(int[] sources,
+			SplitFindminStructureFactory<Integer> factory)
+		throws IllegalArgumentException {
+		
+		if (sources == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
 		}
 		
-		// B.3.
-		visit(t.root);
+		final int[][] result = new int[sources.length][];
+		
+		findShortestPaths(sources, factory,
+				Runtime.getRuntime().availableProcessors(),
+				new ShortestPathsHandler() {
+					public void handleShortestPaths(int i, int[] distances) {
+						result[i] = distances.clone();
+					}
+				});
 		
-		// B.4.
-		int[] d = new int[n];
+		return result;
+	}
+	
+	/**
+	 * Computes the distances of all vertices from each of the passed source
+	 * vertices, using all available processors and integer split-findmin
+	 * structures created by the passed factory.
+	 * 
+	 * @see #findShortestPaths(int[], IntSplitFindminStructureFactory, int,
+	 * 		ShortestPathsHandler)
+	 * @param sources
+	 * 		the source vertices
+	 * @param factory
+	 * 		the factory to create the split-findmin structures used for
+	 * 		<i>U</i> with
+	 * @return
+	 * 		the distances of all vertices from the source vertex
+	 * 		<code>sources[i]</code> at index <code>i</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed objects is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed source vertices is not a vertex of <i>G</i>
+	 */
+	@SuppressWarnings("overloads")
+	public int[][] findShortestPaths(int[] sources,
+			IntSplitFindminStructureFactory factory)
+		throws IllegalArgumentException {
 		
-		for (int i = 0; i < n; i++) {
-			d[i] = u.getD(i);
+		if (sources == null) {
+			String errorMessage = "The passed objects musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
 		}
 		
-		// B.2.
-		d[source] = 0;
+		final int[][] result = new int[sources.length][];
+		
+		findShortestPaths(sources, factory,
+				Runtime.getRuntime().availableProcessors(),
+				new ShortestPathsHandler() {
+					public void handleShortestPaths(int i, int[] distances) {
+						result[i] = distances.clone();
+					}
+				});
 		
-		return d;
+		return result;
 	}
 	
 	
@@ -233,17 +656,12 @@ public class Thorup {
 	 * @return
 	 * 		the component tree of <i>G</i>
 	 */
-	@SuppressWarnings("unchecked")
-	private ComponentTree constructT(UnionFindStructure uf) {
-		// prepare union and find
-		UnionFindNode<Integer>[] ufNodes = new UnionFindNode[n];
-		
-		for (int v = 0; v < n; v++) {
-			ufNodes[v] = uf.makeSet(v);
-		}
-		
+	private ComponentTree constructT(IntUnionFindStructure uf) {
 		//  sort edges of m
-		WeightedEdge[] eis = bucketSortMSTEdges();
+		int[][] q = Kruskal.bucketSortEdges(m);
+		int[] sources = q[0];
+		int[] targets = q[1];
+		int[] weights = q[2];
 		
 		int[] c = new int[n];
 		int[] s = new int[n];
@@ -263,28 +681,30 @@ public class Thorup {
 		LinkedHashSet<Integer> x = new LinkedHashSet<Integer>();
 		
 		// G.3.
-		for (int i = 0; i < eis.length - 1; i++) {
+		for (int i = 0; i < weights.length - 1; i++) {
 			// G.3.1.
-			WeightedEdge ei = eis[i];
+			int source = sources[i];
+			int target = targets[i];
+			int weight = weights[i];
 			
 			// G.3.2.
-			x.add((Integer)uf.find(ufNodes[ei.getSource()]).getItem());
-			x.add((Integer)uf.find(ufNodes[ei.getTarget()]).getItem());
+			x.add(uf.find(source));
+			x.add(uf.find(target));
 			
 			// G.3.3.
 			int newS =
-				s[(Integer)uf.find(ufNodes[ei.getSource()]).getItem()] +
-				s[(Integer)uf.find(ufNodes[ei.getTarget()]).getItem()] +
-				ei.getWeight();
+				s[uf.find(source)] +
+				s[uf.find(target)] +
+				weight;
 			
 			// G.3.4.
-			uf.union(ufNodes[ei.getSource()], ufNodes[ei.getTarget()]);
+			uf.union(source, target);
 			
 			// G.3.5.
-			s[(Integer)uf.find(ufNodes[ei.getSource()]).getItem()] = newS;
+			s[uf.find(source)] = newS;
 			
 			// G.3.6.
-			if (msb(ei.getWeight()) < msb(eis[i + 1].getWeight())) {
+			if (msb(weight) < msb(weights[i + 1])) {
 				/* 
 				 * G.3.6.1.:
 				 * newX are the canonical elements of the new components of T
@@ -292,7 +712,7 @@ public class Thorup {
 				LinkedHashSet<Integer> newX = new LinkedHashSet<Integer>();
 				
 				for (Integer v : x) {
-					newX.add((Integer)uf.find(ufNodes[v]).getItem());
+					newX.add(uf.find(v));
 				}
 				
 				// G.3.6.2.
@@ -305,10 +725,10 @@ public class Thorup {
 				for (Integer v : x) {
 					if (!representsInternalNode[v]) {
 						t.setParentOfLeaf(c[v],
-								newC[(Integer)uf.find(ufNodes[v]).getItem()]);
+								newC[uf.find(v)]);
 					} else {
 						t.setParentOfInternalNode(c[v],
-								newC[(Integer)uf.find(ufNodes[v]).getItem()]);
+								newC[uf.find(v)]);
 					}
 				}
 				
@@ -317,8 +737,8 @@ public class Thorup {
 					c[v] = newC[v];
 					representsInternalNode[v] = true;
 					t.setDelta(c[v], (int)Math.ceil(s[v] /
-							Math.pow(2, msb(ei.getWeight()))));
-					t.setI(c[v], msb(ei.getWeight()) + 1);
+							Math.pow(2, msb(weight))));
+					t.setI(c[v], msb(weight) + 1);
 				}
 				
 				// G.3.6.5
@@ -327,20 +747,31 @@ public class Thorup {
 		}
 		
 		{
-			int i = eis.length - 1;
+			int i = weights.length - 1;
 			
 			// G.3.1.
-			WeightedEdge ei = eis[i];
+			int source = sources[i];
+			int target = targets[i];
+			int weight = weights[i];
 			
 			// G.3.2.
-			x.add((Integer)uf.find(ufNodes[ei.getSource()]).getItem());
-			x.add((Integer)uf.find(ufNodes[ei.getTarget()]).getItem());
+			x.add(uf.find(source));
+			x.add(uf.find(target));
+			
+			// G.3.3.
+			int newS =
+				s[uf.find(source)] +
+				s[uf.find(target)] +
+				weight;
 			
 			// G.3.4.
-			uf.union(ufNodes[ei.getSource()], ufNodes[ei.getTarget()]);
+			uf.union(source, target);
+			
+			// G.3.5.
+			s[uf.find(source)] = newS;
 			
 			// G.3.6.
-			if (msb(ei.getWeight()) < msb(Integer.MAX_VALUE)) {
+			if (msb(weight) < msb(Integer.MAX_VALUE)) {
 				/* 
 				 * G.3.6.1.:
 				 * newX are the canonical elements of the new components of T
@@ -348,7 +779,7 @@ public class Thorup {
 				LinkedHashSet<Integer> newX = new LinkedHashSet<Integer>();
 				
 				for (Integer v : x) {
-					newX.add((Integer)uf.find(ufNodes[v]).getItem());
+					newX.add(uf.find(v));
 				}
 				
 				// G.3.6.2.
@@ -361,10 +792,10 @@ public class Thorup {
 				for (Integer v : x) {
 					if (!representsInternalNode[v]) {
 						t.setParentOfLeaf(c[v],
-								newC[(Integer)uf.find(ufNodes[v]).getItem()]);
+								newC[uf.find(v)]);
 					} else {
 						t.setParentOfInternalNode(c[v],
-								newC[(Integer)uf.find(ufNodes[v]).getItem()]);
+								newC[uf.find(v)]);
 					}
 				}
 				
@@ -373,8 +804,8 @@ public class Thorup {
 					c[v] = newC[v];
 					representsInternalNode[v] = true;
 					t.setDelta(c[v], (int)Math.ceil(s[v] /
-							Math.pow(2, msb(ei.getWeight()))));
-					t.setI(c[v], msb(ei.getWeight()) + 1);
+							Math.pow(2, msb(weight))));
+					t.setI(c[v], msb(weight) + 1);
 				}
 				
 				// G.3.6.5
@@ -382,257 +813,1292 @@ public class Thorup {
 			}
 		}
 		
+		t.initializeChildren();
+		t.initializeBucketRanges();
+		
 		return t;
 	}
 	
 	/**
-	 * Sorts the edges of <i>G</i> according to the most significant
-	 * bits of their weights in <i>O(m)</i>.
-	 * 
-	 * @return
-	 * 		an array containing the ordered edges of <i>G</i>
+	 * Initializes the mapping of the indices of all vertices to the indices
+	 * of their corresponding containers of the split-findmin structure of
+	 * <i>U</i>, by traversing <i>T</i> in pre-order using an explicit stack.
+	 * The leaves are mapped to consecutive indices in the order they are
+	 * reached, and every node is assigned the index of the last leaf of its
+	 * subtree.
 	 */
-	@SuppressWarnings("unchecked")
-	private WeightedEdge[] bucketSortMSTEdges() {
-		// initialize buckets
-		LinkedList<WeightedEdge>[] buckets =
-			new LinkedList[msb(WeightedEdge.MAXIMUM_EDGE_WEIGHT)];
-		
-		for (int i = 0; i < buckets.length; i++) {
-			buckets[i] = new LinkedList<WeightedEdge>();
-		}
-		
-		// bucket edges
-		for (int v = 0; v < m.getNumberOfVertices(); v++) {
-			for (WeightedEdge e : m.getIncidentEdges(v)) {
-				if (e.getSource() < e.getTarget()) {
-					buckets[msb(e.getWeight())].add(e);
-				}
-			}
-		}
-		
-		// create sorted edge array
-		WeightedEdge[] a = new WeightedEdge[m.getNumberOfEdges() / 2];
-		int j = 0;
-		
-		for (int i = 0; i < buckets.length; i++) {
-			for (WeightedEdge e : buckets[i]) {
-				a[j] = e;
-				j++;
-			}
-		}
+	private void initializeMapping() {
+		int[] preOrder = new int[t.numberOfNodes];
+		int[] stack = new int[t.numberOfNodes];
 		
-		return a;
-	}
-	
-	
-	/**
-	 * Assumes that the passed component has just been visited for the first
-	 * time. Buckets all children of the passed component and initializes the
-	 * bucket indizes (Algorithm D).
-	 * 
-	 * @param v
-	 * 		the component to expand
-	 */
-	private void expand(ComponentTree.TreeNode v) {
-		// initiate ix0([v]_i) and ix8([v]_i)
-		v.ix0 = u.getMinDviMinus(v) >> (v.i - 1);
-		v.ix8 = v.ix0 + v.delta;
-		
-		// bucket the children of [v_i]
-		v.initializeBuckets();
-		u.deleteRoot(v);
-		for (ComponentTree.TreeNode wh : v.children) {
-			int min = u.getMinDviMinus(wh);
-			
-			if (min != -1) {
-				if (!(wh.children.isEmpty() && wh.index == source)) {
-					v.bucket(wh, min >> (v.i - 1));
-				} else {
-					ComponentTree.TreeNode current = v;
-					
-					while (current != null) {
-						current.numberOfUnvisitedVertices--;
-						current = current.parent;
-					}
-				}
-			}			
-		}
+		int numberOfNodes = 0;
+		int top = 0;
+		int index = 0;
 		
-		v.visited = true;
-	}
-	
-	/**
-	 * Assumes that all ancestors of the passed component are expanded. Visits
-	 * the passed minimal singleton component, and restores the bucketing of
-	 * unvisited children of visited components (Algorithm E).
-	 *  
-	 * @param v
-	 * 		the vertex to visit
-	 */
-	private void visit(int v) {
-		if (v != source) {
-			// mark v as visited
-			s[v] = true;
-			
-			// iterate all neighbors
-			for (WeightedEdge edge : g.getIncidentEdges(v)) {
-				/*
-				 * check if we have to decrease the D-value of the current
-				 * neighbor
-				 */
-				int newDValue = u.getD(v) + edge.getWeight();
-				
-				if (newDValue > 0 && newDValue < u.getD(edge.getTarget())) {
-					ComponentTree.TreeNode wh =
-						u.getUnvisitedRootOf(t, edge.getTarget());
-					ComponentTree.TreeNode wi = wh.parent;
-					
-					int oldValue = u.getMinDviMinus(wh) >> (wi.i - 1);
-					u.decreaseD(edge.getTarget(), newDValue);
-					int newValue = u.getMinDviMinus(wh) >> (wi.i - 1);
-					
-					if (oldValue == -1 || newValue < oldValue) {
-						wh.moveToBucket(wi, u.getMinDviMinus(wh) >> (wi.i - 1));
-					}
-				}
-			}
-		}
-	}
-	
-	/**
-	 * Assumes that the passed component is minimal. Visits all unvisited
-	 * vertices <i>w</i> of the passed component with d(w) >> j - 1 equal to the
-	 * call time value of the minimum over the super distances of all unvisited
-	 * vertices of the passed component, shifted right by j - 1 bits, where
-	 * j is the level of the parent of the passed component.
-	 * 
-	 * @param vi
-	 * 		the minimal component to visit
-	 */
-	private void visit(ComponentTree.TreeNode vi) {
-		ComponentTree.TreeNode vj = vi.parent;
-		int j;
-		
-		if (vj == null) {
-			j = 32;
-		} else {
-			j = vj.i;
-		}
+		// map the leaves in pre-order
+		stack[top++] = t.root;
 		
-		// F.1.
-		if (vi.i == 0) {
-			// F.1.1.
-			visit(vi.index);
+		while (top > 0) {
+			int v = stack[--top];
+			preOrder[numberOfNodes++] = v;
 			
-			ComponentTree.TreeNode current = vi.parent;
-			while (current != null) {
-				current.numberOfUnvisitedVertices--;
-				current = current.parent;
+			if (t.isLeaf(v)) {
+				indexOfVertex[v] = index;
+				t.lastUIndex[v] = index;
+				index++;
+			} else {
+				for (int c = t.firstChild[v + 1] - 1; c >= t.firstChild[v];
+						c--) {
+					stack[top++] = t.children[c];
+				}
 			}
-			
-			// F.1.2.
-			vi.removeFromParentBucket();
-			
-			// F.1.3.
-			return;
 		}
 		
-		// F.2.
-		if (!vi.visited) {
-			expand(vi);
-			vi.ix = vi.ix0;
-		}
-		
-		// F.3.
-		int oldShiftedIx = vi.ix >> (j - vi.i);
-			
-		while (vi.numberOfUnvisitedVertices > 0 &&
-			   vi.ix >> (j - vi.i) == oldShiftedIx) {
-			
-			// F.3.1.
-			while (!vi.getBucket(vi.ix).isEmpty()) {
-				// F.3.1.1.
-				ComponentTree.TreeNode wh = vi.getBucket(vi.ix).getFirst();
-				
-				// F.3.1.2.
-				visit(wh);
-			}
+		// visit all children before their parents
+		for (int k = numberOfNodes - 1; k >= 0; k--) {
+			int v = preOrder[k];
 			
-			// F.3.2.
-			vi.ix++;
-		}
-		
-		// F.4.
-		if (vi.numberOfUnvisitedVertices > 0) {
-			vi.moveToBucket(vj, vi.ix >> (j - vi.i));
-		} else {
-			// F.5.
-			if (vi.parent != null) {
-				vi.removeFromParentBucket();
+			if (!t.isLeaf(v)) {
+				int lastChild = t.children[t.firstChild[v + 1] - 1];
+				t.lastUIndex[v] = t.lastUIndex[lastChild];
 			}
 		}
 	}
 	
 	/**
-	 * Marks the passed component and all of its children as unvisited.
-	 * 
-	 * @param node
-	 * 		the component to mark as unvisited
-	 */
-	private void deepCleanUpNodes(ComponentTree.TreeNode node) {
-		node.numberOfUnvisitedVertices = node.numberOfUnvisitedVerticesInitial;
-		node.visited = false;
-		
-		for (ComponentTree.TreeNode child : node.children) {
-			deepCleanUpNodes(child);
-		}
-	}
-
-	/**
-	 * A component tree of a weighted, undirected graph with positive integer
-	 * edge weights.
+	 * The state of a single query of <i>Thorup</i>'s algorithm: The set
+	 * <i>S</i> of visited vertices, the buckets and bucket indices of all
+	 * visited components, the unvisited data structure <i>U</i> and the
+	 * resulting distances.<br>
+	 * <br>
+	 * All state is allocated once and reused by subsequent queries. Instead
+	 * of clearing it between queries, every entry is stamped with the number
+	 * of the query that has written it last; entries with an older stamp are
+	 * treated as unset.<br>
+	 * <br>
+	 * A context only reads the preprocessed data structures of its instance of
+	 * <i>Thorup</i>'s algorithm. Thus, different contexts may be used by
+	 * different threads concurrently, while a single context must not.
 	 * 
 	 * @author
-	 * 		<a href="mailto:npr@informatik.uni-kiel.de">Nick Pr&uuml;hs</a>
+	 * 		<a href="mailto:agent@local">agent</a>
 	 * @version
-	 * 		1.0, 09/17/09
+	 * 		1.0, 10/18/26
 	 */
-	private static class ComponentTree {
+	public class QueryContext {
 		/**
-		 * The leafs of this component tree.
+		 * The number of the current query of this context. Never
+		 * <code>0</code>, which denotes unset entries.
 		 */
-		private TreeNode[] leafs;
+		private int epoch;
 		
 		/**
-		 * The internal nodes of this component tree.
+		 * The index of the source vertex to compute all shortest paths to.
 		 */
-		private TreeNode[] internalNodes;
+		private int source;
 		
 		/**
-		 * The root of this component tree.
+		 * The index of the target vertex of the current point-to-point
+		 * query, or <code>-1</code> if all shortest paths are to be computed.
 		 */
-		private TreeNode root;
+		private int target;
 		
 		/**
-		 * Constructs a new component tree for a graph with <code>n</code>
-		 * vertices. Use {@link #setParentOfLeaf(int, int)} and
-		 * {@link #setParentOfInternalNode(int, int)} in order to add
-		 * parent-child relationships to the constructed tree.
-		 * 
-		 * @see #setParentOfLeaf(int, int)
-		 * @see #setParentOfInternalNode(int, int)
-		 * @param n
+		 * Whether the target vertex of the current point-to-point query has
+		 * already been visited. The visit of <i>T</i> is stopped as soon as
+		 * this becomes <code>true</code>.
+		 */
+		private boolean targetVisited;
+		
+		/**
+		 * The maximum distance of the vertices to visit in the current query,
+		 * or {@link Integer#MAX_VALUE} if all vertices are to be visited.
+		 * Components whose unvisited vertices are all farther away from the
+		 * source vertex are not visited any more.
+		 */
+		private int radius;
+		
+		/**
+		 * Whether the vertices visited by the current query are recorded in
+		 * {@link #visitedVertices}.
+		 */
+		private boolean recording;
+		
+		/**
+		 * The indices of all vertices within the radius visited by the
+		 * current query, if recording.
+		 */
+		private int[] visitedVertices;
+		
+		/**
+		 * The number of vertices recorded in {@link #visitedVertices}.
+		 */
+		private int numberOfVisitedVertices;
+		
+		/**
+		 * The smallest distances of all vertices visited by the current
+		 * k-nearest query, as max-heap of size <code>k</code>, or
+		 * <code>null</code> if the current query is no k-nearest query. As
+		 * soon as the heap is full, the radius of the query is shrunk to its
+		 * maximum.
+		 */
+		private int[] nearestDistances;
+		
+		/**
+		 * The number of distances in the heap {@link #nearestDistances}.
+		 */
+		private int numberOfNearestDistances;
+		
+		/**
+		 * The set <i>S</i> of visited vertices of the current query. A vertex
+		 * <i>v</i> is element of the set <i>S</i> if <code>s[v]</code> equals
+		 * {@link #epoch}.
+		 */
+		private int[] s;
+		
+		/**
+		 * The number of the query each component of <i>T</i> has been visited
+		 * in most recently, indexed by node id.
+		 */
+		private int[] visited;
+		
+		/**
+		 * The number of unvisited vertices of each visited component of
+		 * <i>T</i>, indexed by node id.
+		 */
+		private int[] numberOfUnvisitedVertices;
+		
+		/**
+		 * The lowest bucket index of each visited component of <i>T</i>,
+		 * indexed by node id.
+		 */
+		private int[] ix0;
+		
+		/**
+		 * The index of the next bucket to visit children of, of each visited
+		 * component of <i>T</i>, indexed by node id.
+		 */
+		private int[] ix;
+		
+		/**
+		 * The ids of the first nodes of all buckets of all components of
+		 * <i>T</i>, or <code>-1</code> for empty buckets. The buckets of the
+		 * component <code>v</code> start at index
+		 * <code>t.firstBucket[v]</code>, and are cleared whenever the
+		 * component is expanded.
+		 */
+		private int[] bucketHeads;
+		
+		/**
+		 * The id of the next node in the bucket of each component of <i>T</i>,
+		 * or <code>-1</code> if it is the last one, indexed by node id.
+		 */
+		private int[] nextInBucket;
+		
+		/**
+		 * The id of the previous node in the bucket of each component of
+		 * <i>T</i>, or <code>-1</code> if it is the first one, indexed by
+		 * node id.
+		 */
+		private int[] previousInBucket;
+		
+		/**
+		 * The index of the bucket each component of <i>T</i> is in within
+		 * {@link #bucketHeads}, indexed by node id.
+		 */
+		private int[] containingBucket;
+		
+		/**
+		 * The number of the query each component of <i>T</i> has been put
+		 * into its containing bucket in, indexed by node id.
+		 */
+		private int[] bucketed;
+		
+		/**
+		 * The unvisited data structure <i>U</i> of the current query.
+		 */
+		private UnvisitedDataStructure u;
+		
+		/**
+		 * The distances of all vertices from the source vertex, as computed by
+		 * the most recent query.
+		 */
+		private int[] distances;
+		
+		/**
+		 * The predecessors of all vertices on their shortest paths from the
+		 * source vertex, as computed by the most recent query. The
+		 * predecessor of a vertex is updated whenever its super-distance D is
+		 * decreased; <code>-1</code> denotes the source vertex and, after
+		 * full queries, unreachable vertices.
+		 */
+		private int[] predecessors;
+		
+		/**
+		 * The components of <i>T</i> currently being visited, from the
+		 * outermost to the innermost one. As the level <i>i</i> strictly
+		 * increases from the leaves to the root of <i>T</i>, at most
+		 * <i>i</i> + 1 components of the root are visited at the same time.
+		 */
+		private int[] visitStack;
+		
+		/**
+		 * The bucket indices of the components in {@link #visitStack} at the
+		 * time their visits have been started, shifted right by
+		 * <i>j</i> - <i>i</i> bits, where <i>i</i> is the level of the
+		 * component and <i>j</i> the one of its parent.
+		 */
+		private int[] oldShiftedIxs;
+		
+		
+		/**
+		 * Constructs a new query context for <i>T</i>, using the passed
+		 * split-findmin structure for the unvisited data structure <i>U</i> of
+		 * the first query.
+		 * 
+		 * @param sf
+		 * 		a split-findmin structure in its initial state to be used by
+		 * 		<i>U</i>
+		 * @throws IllegalArgumentException
+		 * 		if the number of elements of <code>sf</code> differs from the
+		 * 		number of vertices of <i>G</i>
+		 */
+		private QueryContext(IntSplitFindminStructure sf) {
+			// check the passed split-findmin structure
+			if (sf.getNumberOfElements() != n) {
+				String errorMessage = "The passed split-findmin structure " +
+						"must hold exactly one element per vertex.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			epoch = 1;
+			target = -1;
+			radius = Integer.MAX_VALUE;
+			
+			s = new int[n];
+			
+			visited = new int[t.numberOfNodes];
+			numberOfUnvisitedVertices = new int[t.numberOfNodes];
+			ix0 = new int[t.numberOfNodes];
+			ix = new int[t.numberOfNodes];
+			bucketHeads = new int[t.firstBucket[t.numberOfNodes]];
+			nextInBucket = new int[t.numberOfNodes];
+			previousInBucket = new int[t.numberOfNodes];
+			containingBucket = new int[t.numberOfNodes];
+			bucketed = new int[t.numberOfNodes];
+			
+			u = new UnvisitedDataStructure(t, indexOfVertex, sf);
+			
+			distances = new int[n];
+			predecessors = new int[n];
+			
+			visitStack = new int[t.level[t.root] + 1];
+			oldShiftedIxs = new int[t.level[t.root] + 1];
+		}
+		
+		
+		/**
+		 * Prepares this context for another query by invalidating all state
+		 * of the previous one and re-initializing <i>U</i> with the passed
+		 * split-findmin structure.
+		 * 
+		 * @param sf
+		 * 		an empty split-findmin structure to be used by <i>U</i>
+		 */
+		public void reset(SplitFindminStructure<Integer> sf) {
+			invalidateState();
+			
+			IntSplitFindminStructure current = u.getSplitFindminStructure();
+			
+			if (current instanceof SplitFindminStructureAdapter) {
+				((SplitFindminStructureAdapter)current).reset(sf);
+			} else {
+				u.reset(new SplitFindminStructureAdapter(sf, n));
+			}
+		}
+		
+		/**
+		 * Prepares this context for another query by invalidating all state
+		 * of the previous one and resetting the split-findmin structure of
+		 * <i>U</i> in place, without allocating any memory.
+		 */
+		public void reset() {
+			invalidateState();
+			
+			u.reset();
+		}
+		
+		/**
+		 * Iterates the weighted graph <i>G</i>, computing the paths from the
+		 * passed source vertex to all others. Call
+		 * {@link #reset()} or {@link #reset(SplitFindminStructure)} before
+		 * every query but the first one.<br>
+		 * <br>
+		 * <i>Note that the returned array is reused by the next query of this
+		 * context.</i>
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 * @return
+		 * 		the distances of all vertices of <i>G</i> from the source vertex
+		 * @throws IllegalArgumentException
+		 * 		if <code>source</code> is not a vertex of <i>G</i>
+		 */
+		public int[] findShortestPaths(int source) {
+			// check the passed source vertex
+			if (source < 0 || source >= n) {
+				throw new IllegalArgumentException(source +
+						" is no valid source vertex.");
+			}
+			
+			// B.1.
+			visitSource(source);
+			
+			// B.3.
+			visit(t.root);
+			
+			// B.4.
+			for (int i = 0; i < n; i++) {
+				distances[i] = u.getD(i);
+				
+				if (distances[i] == Integer.MAX_VALUE) {
+					predecessors[i] = -1;
+				}
+			}
+			
+			// B.2.
+			distances[source] = 0;
+			
+			return distances;
+		}
+		
+		/**
+		 * Iterates the weighted graph <i>G</i>, computing the distance of the
+		 * passed target vertex from the passed source vertex. The visit of
+		 * <i>T</i> is stopped as soon as the target vertex has been visited,
+		 * and the distances of all other vertices are not computed. As
+		 * <i>G</i> is required to be connected, the target vertex is always
+		 * reachable. Call {@link #reset()} or
+		 * {@link #reset(SplitFindminStructure)} before every query but the
+		 * first one.
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 * @param target
+		 * 		the index of the target vertex
+		 * @return
+		 * 		the distance of the target vertex from the source vertex
+		 * @throws IllegalArgumentException
+		 * 		if <code>source</code> or <code>target</code> is not a vertex
+		 * 		of <i>G</i>
+		 */
+		public int findShortestPath(int source, int target) {
+			// check the passed vertices
+			if (source < 0 || source >= n) {
+				throw new IllegalArgumentException(source +
+						" is no valid source vertex.");
+			}
+			
+			if (target < 0 || target >= n) {
+				throw new IllegalArgumentException(target +
+						" is no valid target vertex.");
+			}
+			
+			if (source == target) {
+				this.source = source;
+				predecessors[source] = -1;
+				
+				return 0;
+			}
+			
+			// B.1.
+			visitSource(source);
+			
+			// B.3., stopping as soon as the target has been visited
+			this.target = target;
+			targetVisited = false;
+			
+			try {
+				visit(t.root);
+			} finally {
+				this.target = -1;
+				targetVisited = false;
+			}
+			
+			return u.getD(target);
+		}
+		
+		
+		/**
+		 * Iterates the weighted graph <i>G</i>, computing the distances of all
+		 * vertices whose distance from the passed source vertex doesn't
+		 * exceed the specified radius. Components of <i>T</i> are not visited
+		 * any more as soon as the bucket index <i>ix</i> of a component on
+		 * level <i>i</i> exceeds the radius shifted right by <i>i</i> - 1
+		 * bits. Call {@link #reset()} or {@link #reset(SplitFindminStructure)}
+		 * before every query but the first one.
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 * @param radius
+		 * 		the maximum distance of the vertices to compute the distances
+		 * 		of
+		 * @return
+		 * 		all vertices within the specified radius around the source
+		 * 		vertex, along with their distances
+		 * @throws IllegalArgumentException
+		 * 		if <code>source</code> is not a vertex of <i>G</i>
+		 * @throws IllegalArgumentException
+		 * 		if <code>radius</code> is negative
+		 */
+		public SparseShortestPaths findShortestPathsWithin(int source,
+				int radius) throws IllegalArgumentException {
+			
+			if (radius < 0) {
+				String errorMessage = "The radius must be non-negative.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			return findBoundedShortestPaths(source, radius, Integer.MAX_VALUE);
+		}
+		
+		/**
+		 * Iterates the weighted graph <i>G</i>, computing the <code>k</code>
+		 * vertices closest to the passed source vertex, including the source
+		 * vertex itself. As soon as <code>k</code> vertices have been visited,
+		 * the query is restricted to the radius of the <code>k</code>-th
+		 * closest vertex visited so far. Call
+		 * {@link #reset()} or {@link #reset(SplitFindminStructure)} before
+		 * every query but the first one.
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 * @param k
+		 * 		the number of vertices to compute the distances of
+		 * @return
+		 * 		the <code>k</code> vertices closest to the source vertex, along
+		 * 		with their distances, or less if less vertices are reachable
+		 * @throws IllegalArgumentException
+		 * 		if <code>source</code> is not a vertex of <i>G</i>
+		 * @throws IllegalArgumentException
+		 * 		if <code>k</code> is less than one
+		 */
+		public SparseShortestPaths findNearestVertices(int source, int k)
+			throws IllegalArgumentException {
+			
+			if (k < 1) {
+				String errorMessage = "k must be greater than or equal to 1.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			return findBoundedShortestPaths(source, Integer.MAX_VALUE, k);
+		}
+		
+		/**
+		 * Gets the predecessors of all vertices on their shortest paths from
+		 * the source vertex, as computed by the most recent query of this
+		 * context. The predecessors are only valid for the vertices whose
+		 * distances have been computed by that query.<br>
+		 * <br>
+		 * <i>Note that the returned array is reused by the next query of this
+		 * context.</i>
+		 * 
+		 * @return
+		 * 		the predecessors of all vertices on their shortest paths from
+		 * 		the source vertex
+		 */
+		public int[] getPredecessors() {
+			return predecessors;
+		}
+		
+		/**
+		 * Gets the shortest path from the source vertex of the most recent
+		 * query of this context to the passed target vertex, whose distance
+		 * must have been computed by that query.
+		 * 
+		 * @param target
+		 * 		the index of the vertex to get the shortest path to
+		 * @return
+		 * 		the indices of all vertices on the shortest path, starting with
+		 * 		the source vertex and ending with the target vertex, or
+		 * 		<code>null</code> if the target vertex is unreachable
+		 * @throws IllegalArgumentException
+		 * 		if <code>target</code> is not a vertex of <i>G</i>
+		 * @throws IllegalStateException
+		 * 		if the predecessors of the target vertex don't lead back to
+		 * 		the source vertex within <i>n</i> steps
+		 */
+		public int[] getPath(int target)
+			throws IllegalArgumentException, IllegalStateException {
+			
+			// check the passed target vertex
+			if (target < 0 || target >= n) {
+				throw new IllegalArgumentException(target +
+						" is no valid target vertex.");
+			}
+			
+			if (target != source && u.getD(target) == Integer.MAX_VALUE) {
+				return null;
+			}
+			
+			/*
+			 * count the vertices on the path, which can't have more than n
+			 * vertices if the predecessors are consistent
+			 */
+			int length = 1;
+			
+			for (int v = target; v != source; v = predecessors[v]) {
+				if (predecessors[v] == -1 || length == n) {
+					String errorMessage = "The predecessors of the vertex " +
+						target + " don't lead back to the source vertex.";
+					
+					throw new IllegalStateException(errorMessage);
+				}
+				
+				length++;
+			}
+			
+			// follow the predecessors back to the source vertex
+			int[] path = new int[length];
+			
+			for (int v = target; length > 0; v = predecessors[v]) {
+				path[--length] = v;
+			}
+			
+			return path;
+		}
+		
+		
+		/**
+		 * Invalidates all state of the previous query of this context by
+		 * advancing the query number, clearing all stamps once the query
+		 * numbers are exhausted.
+		 */
+		private void invalidateState() {
+			epoch++;
+			
+			// clear all stamps once the query numbers are exhausted
+			if (epoch == 0) {
+				Arrays.fill(s, 0);
+				Arrays.fill(visited, 0);
+				Arrays.fill(bucketed, 0);
+				
+				epoch = 1;
+			}
+		}
+		
+		/**
+		 * Iterates the weighted graph <i>G</i>, computing the distances of at
+		 * most <code>k</code> vertices closest to the passed source vertex,
+		 * none of which is farther away than the specified radius.
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 * @param radius
+		 * 		the maximum distance of the vertices to compute the distances
+		 * 		of
+		 * @param k
+		 * 		the maximum number of vertices to compute the distances of
+		 * @return
+		 * 		the visited vertices, along with their distances
+		 * @throws IllegalArgumentException
+		 * 		if <code>source</code> is not a vertex of <i>G</i>
+		 */
+		private SparseShortestPaths findBoundedShortestPaths(int source,
+				int radius, int k) throws IllegalArgumentException {
+			
+			// check the passed source vertex
+			if (source < 0 || source >= n) {
+				throw new IllegalArgumentException(source +
+						" is no valid source vertex.");
+			}
+			
+			// prepare recording the visited vertices
+			if (visitedVertices == null) {
+				visitedVertices = new int[16];
+			}
+			
+			numberOfVisitedVertices = 0;
+			
+			if (k < n) {
+				nearestDistances = new int[k];
+				numberOfNearestDistances = 0;
+			}
+			
+			this.radius = radius;
+			recording = true;
+			
+			int finalRadius;
+			
+			try {
+				// B.1.
+				visitSource(source);
+				recordVisit(source, 0);
+				
+				// B.3., pruning all components outside the radius
+				visit(t.root);
+				
+				finalRadius = this.radius;
+			} finally {
+				this.radius = Integer.MAX_VALUE;
+				recording = false;
+				nearestDistances = null;
+			}
+			
+			// sort the vertices within the radius by their distances
+			long[] visitedByDistance = new long[numberOfVisitedVertices];
+			int numberOfResults = 0;
+			
+			for (int r = 0; r < numberOfVisitedVertices; r++) {
+				int v = visitedVertices[r];
+				int dv = (v == source) ? 0 : u.getD(v);
+				
+				if (dv <= finalRadius) {
+					visitedByDistance[numberOfResults++] =
+						((long)dv << 32) | v;
+				}
+			}
+			
+			Arrays.sort(visitedByDistance, 0, numberOfResults);
+			
+			numberOfResults = Math.min(numberOfResults, k);
+			
+			int[] resultVertices = new int[numberOfResults];
+			int[] resultDistances = new int[numberOfResults];
+			
+			for (int r = 0; r < numberOfResults; r++) {
+				resultVertices[r] = (int)visitedByDistance[r];
+				resultDistances[r] = (int)(visitedByDistance[r] >>> 32);
+			}
+			
+			return new SparseShortestPaths(resultVertices, resultDistances);
+		}
+		
+		/**
+		 * Visits the passed source vertex by adding it to <i>S</i> and
+		 * decreasing the D-values of all of its neighbors.
+		 * 
+		 * @param source
+		 * 		the index of the source vertex
+		 */
+		private void visitSource(int source) {
+			this.source = source;
+			s[source] = epoch;
+			predecessors[source] = -1;
+			
+			for (int k = 0; k < g.getDegree(source); k++) {
+				int w = g.getAdjacentVertex(source, k);
+				int weight = g.getIncidentEdgeWeight(source, k);
+				
+				if (weight < u.getD(w)) {
+					u.decreaseD(w, weight);
+					predecessors[w] = source;
+				}
+			}
+		}
+		
+		/**
+		 * Assumes that the passed component has just been visited for the
+		 * first time. Buckets all children of the passed component and
+		 * initializes the bucket indizes (Algorithm D).
+		 * 
+		 * @param v
+		 * 		the id of the component to expand
+		 */
+		private void expand(int v) {
+			// initiate ix0([v]_i) and ix8([v]_i)
+			ix0[v] = u.getMinDviMinus(v) >> (t.level[v] - 1);
+			numberOfUnvisitedVertices[v] = t.numberOfVertices[v];
+			
+			// bucket the children of [v_i]
+			initializeBuckets(v);
+			u.deleteRoot(v);
+			for (int c = t.firstChild[v]; c < t.firstChild[v + 1]; c++) {
+				int wh = t.children[c];
+				
+				if (wh == source) {
+					int current = v;
+					
+					while (current != -1) {
+						numberOfUnvisitedVertices[current]--;
+						current = t.parent[current];
+					}
+				} else {
+					int min = u.getMinDviMinus(wh);
+					
+					if (min != -1) {
+						bucket(v, wh, min >> (t.level[v] - 1));
+					}
+				}
+			}
+			
+			visited[v] = epoch;
+		}
+		
+		/**
+		 * Assumes that all ancestors of the passed component are expanded.
+		 * Visits the passed minimal singleton component, and restores the
+		 * bucketing of unvisited children of visited components (Algorithm E).
+		 *  
+		 * @param v
+		 * 		the vertex to visit
+		 */
+		private void visitVertex(int v) {
+			if (v != source) {
+				// mark v as visited
+				s[v] = epoch;
+				
+				// iterate all neighbors
+				int degree = g.getDegree(v);
+				int dv = u.getD(v);
+				
+				if (recording) {
+					recordVisit(v, dv);
+				}
+				
+				for (int k = 0; k < degree; k++) {
+					int w = g.getAdjacentVertex(v, k);
+					
+					/*
+					 * check if we have to decrease the D-value of the current
+					 * neighbor
+					 */
+					int newDValue = dv + g.getIncidentEdgeWeight(v, k);
+					
+					if (s[w] != epoch && newDValue > 0 && newDValue < u.getD(w)) {
+						int wh = getUnvisitedRootOf(w);
+						int wi = t.parent[wh];
+						
+						int oldValue =
+							u.getMinDviMinus(wh) >> (t.level[wi] - 1);
+						u.decreaseD(w, newDValue);
+						predecessors[w] = v;
+						int newValue =
+							u.getMinDviMinus(wh) >> (t.level[wi] - 1);
+						
+						if (oldValue == -1 || newValue < oldValue) {
+							moveToBucket(wh, wi, newValue);
+						}
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Assumes that the passed component is minimal. Visits all unvisited
+		 * vertices <i>w</i> of the passed component with d(w) >> j - 1 equal
+		 * to the call time value of the minimum over the super distances of all
+		 * unvisited vertices of the passed component, shifted right by j - 1
+		 * bits, where j is the level of the parent of the passed component.<br>
+		 * <br>
+		 * Instead of recursively visiting the children of a component, they
+		 * are visited using the explicit stack {@link #visitStack}.
+		 * 
+		 * @param vi
+		 * 		the id of the minimal component to visit
+		 */
+		private void visit(int vi) {
+			int next = vi;
+			int top = 0;
+			
+			while (next != -1 || top > 0) {
+				// start visiting the next component
+				if (next != -1) {
+					if (t.level[next] == 0) {
+						// F.1.
+						visitLeaf(next);
+					} else {
+						// F.2.
+						if (visited[next] != epoch) {
+							expand(next);
+							ix[next] = ix0[next];
+						}
+						
+						// F.3.
+						visitStack[top] = next;
+						oldShiftedIxs[top] =
+							ix[next] >> (getParentLevel(next) - t.level[next]);
+						top++;
+					}
+					
+					next = -1;
+					continue;
+				}
+				
+				// continue visiting the innermost component
+				vi = visitStack[top - 1];
+				int j = getParentLevel(vi);
+				
+				if (!targetVisited && numberOfUnvisitedVertices[vi] > 0 &&
+					ix[vi] >> (j - t.level[vi]) == oldShiftedIxs[top - 1] &&
+					ix[vi] <= radius >> (t.level[vi] - 1)) {
+					
+					// F.3.1.
+					int bucket = getBucket(vi, ix[vi]);
+					
+					if (bucketHeads[bucket] != -1) {
+						// F.3.1.1., visited by F.3.1.2. in the next iteration
+						next = bucketHeads[bucket];
+					} else {
+						// F.3.2.
+						ix[vi]++;
+					}
+					
+					continue;
+				}
+				
+				top--;
+				
+				// stop the visit as soon as the target has been visited
+				if (targetVisited) {
+					continue;
+				}
+				
+				// F.4.
+				if (numberOfUnvisitedVertices[vi] > 0) {
+					if (ix[vi] <= radius >> (t.level[vi] - 1)) {
+						moveToBucket(vi, t.parent[vi],
+								ix[vi] >> (j - t.level[vi]));
+					} else if (t.parent[vi] != -1) {
+						// all unvisited vertices of vi are outside the radius
+						removeFromParentBucket(vi);
+					}
+				} else {
+					// F.5.
+					if (t.parent[vi] != -1) {
+						removeFromParentBucket(vi);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Visits the passed minimal singleton component, updating the number
+		 * of unvisited vertices of all of its ancestors.
+		 * 
+		 * @param vi
+		 * 		the id of the leaf of <i>T</i> to visit
+		 */
+		private void visitLeaf(int vi) {
+			// F.1.1.
+			visitVertex(vi);
+			
+			int current = t.parent[vi];
+			while (current != -1) {
+				numberOfUnvisitedVertices[current]--;
+				current = t.parent[current];
+			}
+			
+			// F.1.2.
+			removeFromParentBucket(vi);
+			
+			if (vi == target) {
+				targetVisited = true;
+			}
+		}
+		
+		/**
+		 * Gets the level of the parent of the passed component, or
+		 * <code>32</code> if the passed component is the root of <i>T</i>.
+		 * 
+		 * @param vi
+		 * 		the id of the component to get the level of the parent of
+		 * @return
+		 * 		the level of the parent of the passed component
+		 */
+		private int getParentLevel(int vi) {
+			if (t.parent[vi] == -1) {
+				return 32;
+			} else {
+				return t.level[t.parent[vi]];
+			}
+		}
+		
+		/**
+		 * Records the passed vertex as visited by the current query, if it is
+		 * within the radius of the query. Shrinks the radius of a k-nearest
+		 * query to the distance of the <code>k</code>-th closest vertex
+		 * visited so far.
+		 * 
+		 * @param v
+		 * 		the visited vertex
+		 * @param dv
+		 * 		the distance of the visited vertex from the source vertex
+		 */
+		private void recordVisit(int v, int dv) {
+			if (dv > radius) {
+				return;
+			}
+			
+			// record the vertex
+			if (numberOfVisitedVertices == visitedVertices.length) {
+				visitedVertices = Arrays.copyOf(visitedVertices,
+						2 * numberOfVisitedVertices);
+			}
+			
+			visitedVertices[numberOfVisitedVertices++] = v;
+			
+			if (nearestDistances == null) {
+				return;
+			}
+			
+			// update the max-heap of the k smallest distances
+			int k = nearestDistances.length;
+			
+			if (numberOfNearestDistances < k) {
+				int index = numberOfNearestDistances++;
+				
+				while (index > 0 &&
+					   nearestDistances[(index - 1) / 2] < dv) {
+					nearestDistances[index] = nearestDistances[(index - 1) / 2];
+					index = (index - 1) / 2;
+				}
+				
+				nearestDistances[index] = dv;
+			} else if (dv < nearestDistances[0]) {
+				int index = 0;
+				
+				while (2 * index + 1 < k) {
+					int child = 2 * index + 1;
+					
+					if (child + 1 < k &&
+						nearestDistances[child + 1] > nearestDistances[child]) {
+						child++;
+					}
+					
+					if (nearestDistances[child] <= dv) {
+						break;
+					}
+					
+					nearestDistances[index] = nearestDistances[child];
+					index = child;
+				}
+				
+				nearestDistances[index] = dv;
+			}
+			
+			// shrink the radius as soon as k vertices have been visited
+			if (numberOfNearestDistances == k) {
+				radius = nearestDistances[0];
+			}
+		}
+		
+		/**
+		 * Gets the unvisited root of subtree of the leaf with the passed index
+		 * in the unvisited part of <i>T</i>.
+		 * 
+		 * @param w
+		 * 		the index of the leaf to get the unvisited root of
+		 * @return
+		 * 		the id of the unvisited root of subtree of the leaf with the
+		 * 		passed index
+		 */
+		private int getUnvisitedRootOf(int w) {
+			int current = w;
+			while (visited[t.parent[current]] != epoch) {
+				current = t.parent[current];
+			}
+			
+			return current;
+		}
+		
+		/**
+		 * Empties all buckets of the passed node.
+		 * 
+		 * @param v
+		 * 		the id of the node to initialize the buckets of
+		 */
+		private void initializeBuckets(int v) {
+			Arrays.fill(bucketHeads, t.firstBucket[v], t.firstBucket[v + 1],
+					-1);
+		}
+		
+		/**
+		 * Removes the passed node from its containing bucket, if it is
+		 * contained in any bucket.
+		 * 
+		 * @param wh
+		 * 		the id of the node to remove
+		 */
+		private void removeFromParentBucket(int wh) {
+			if (bucketed[wh] == epoch) {
+				int previous = previousInBucket[wh];
+				int next = nextInBucket[wh];
+				
+				if (previous == -1) {
+					bucketHeads[containingBucket[wh]] = next;
+				} else {
+					nextInBucket[previous] = next;
+				}
+				
+				if (next != -1) {
+					previousInBucket[next] = previous;
+				}
+				
+				bucketed[wh] = 0;
+			}
+		}
+		
+		/**
+		 * Moves the passed node to the bucket with the specified index of the
+		 * other passed node.
+		 * 
+		 * @param wh
+		 * 		the id of the node to move
+		 * @param wi
+		 * 		the id of the node which owns the bucket to insert the first
+		 * 		one into
+		 * @param index
+		 * 		the index of the bucket to insert the node into
+		 */
+		private void moveToBucket(int wh, int wi, int index) {
+			removeFromParentBucket(wh);
+			bucket(wi, wh, index);
+		}
+		
+		/**
+		 * Inserts the passed tree node into the bucket with the specified
+		 * index of the other passed node, if the former is <i>relevant</i>.
+		 * 
+		 * @param wi
+		 * 		the id of the node which owns the bucket to insert the other
+		 * 		one into
+		 * @param wh
+		 * 		the id of the node to bucket
+		 * @param index
+		 * 		the index of the bucket to insert the passed into
+		 */
+		private void bucket(int wi, int wh, int index) {
+			if (index - ix0[wi] <= t.delta[wi]) {
+				int bucket = getBucket(wi, index);
+				int head = bucketHeads[bucket];
+				
+				// insert the node in front of the bucket
+				nextInBucket[wh] = head;
+				previousInBucket[wh] = -1;
+				
+				if (head != -1) {
+					previousInBucket[head] = wh;
+				}
+				
+				bucketHeads[bucket] = wh;
+				containingBucket[wh] = bucket;
+				bucketed[wh] = epoch;
+			}
+		}
+		
+		/**
+		 * Returns the index of the bucket with the specified index of the
+		 * passed node within {@link #bucketHeads}.
+		 * 
+		 * @param v
+		 * 		the id of the node to get the bucket of
+		 * @param index
+		 * 		the index of the bucket to get
+		 * @return
+		 * 		the index of the bucket with the specified index of the passed
+		 * 		node within {@link #bucketHeads}
+		 */
+		private int getBucket(int v, int index) {
+			return t.firstBucket[v] + index - ix0[v];
+		}
+	}
+	
+	/**
+	 * A worker running queries of a batch of single-source shortest paths
+	 * queries one after another using its own query context, until all
+	 * queries of the batch have been started.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 */
+	private class BatchWorker extends RecursiveAction {
+		/**
+		 * The serial version UID of this class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The source vertices of all queries of the batch.
+		 */
+		private int[] sources;
+		
+		/**
+		 * The index of the next query of the batch to run, shared by all
+		 * workers of the batch.
+		 */
+		private AtomicInteger nextQuery;
+		
+		/**
+		 * The factory to create the split-findmin structures of this worker
+		 * with.
+		 */
+		private IntSplitFindminStructureFactory factory;
+		
+		/**
+		 * The handler to pass the distances computed by each query to.
+		 */
+		private ShortestPathsHandler handler;
+		
+		
+		/**
+		 * Constructs a new worker running queries of the passed batch.
+		 * 
+		 * @param sources
+		 * 		the source vertices of all queries of the batch
+		 * @param nextQuery
+		 * 		the index of the next query of the batch to run
+		 * @param factory
+		 * 		the factory to create the split-findmin structures of the new
+		 * 		worker with
+		 * @param handler
+		 * 		the handler to pass the distances computed by each query to
+		 */
+		public BatchWorker(int[] sources, AtomicInteger nextQuery,
+				IntSplitFindminStructureFactory factory,
+				ShortestPathsHandler handler) {
+			this.sources = sources;
+			this.nextQuery = nextQuery;
+			this.factory = factory;
+			this.handler = handler;
+		}
+		
+		
+		/**
+		 * Runs queries of the batch until all of them have been started.
+		 */
+		protected void compute() {
+			QueryContext c = null;
+			
+			int i;
+			
+			while ((i = nextQuery.getAndIncrement()) < sources.length) {
+				if (c == null) {
+					c = createQueryContext
+						(factory.createSplitFindminStructure(n));
+				} else {
+					c.reset();
+				}
+				
+				handler.handleShortestPaths(i, c.findShortestPaths(sources[i]));
+			}
+		}
+	}
+	
+	/**
+	 * A component tree of a weighted, undirected graph with positive integer
+	 * edge weights. All nodes are identified by their ids, and their
+	 * properties are stored in arrays indexed by these ids, with the children
+	 * of all nodes grouped in a single array.
+	 * 
+	 * @author
+	 * 		<a href="mailto:npr@informatik.uni-kiel.de">Nick Pr&uuml;hs</a>
+	 * @version
+	 * 		1.0, 09/17/09
+	 */
+	private static class ComponentTree {
+		/**
+		 * The number of leafs of this component tree, which equals the
+		 * number of vertices of its graph.
+		 */
+		private int n;
+		
+		/**
+		 * The number of possible node ids of this component tree. Leafs have
+		 * the ids <code>0</code> to <code>n - 1</code>, and internal nodes
+		 * have their index increased by <code>n</code> as id.
+		 */
+		private int numberOfNodes;
+		
+		/**
+		 * The id of the root of this component tree.
+		 */
+		private int root;
+		
+		/**
+		 * The id of the parent of each node, or <code>-1</code> for the root
+		 * and unused ids, indexed by node id.
+		 */
+		private int[] parent;
+		
+		/**
+		 * The index of the first child of each node within
+		 * {@link #children}, indexed by node id. The children of the node
+		 * <code>v</code> are stored at the indices
+		 * <code>firstChild[v]</code> to <code>firstChild[v + 1] - 1</code>.
+		 */
+		private int[] firstChild;
+		
+		/**
+		 * The ids of the children of all nodes, grouped by parent.
+		 */
+		private int[] children;
+		
+		/**
+		 * The number of buckets of each internal node, indexed by node id.
+		 */
+		private int[] delta;
+		
+		/**
+		 * The index of the first bucket of each node among the buckets of
+		 * all nodes, indexed by node id. The buckets of the node
+		 * <code>v</code> have the indices <code>firstBucket[v]</code> to
+		 * <code>firstBucket[v + 1] - 1</code>.
+		 */
+		private int[] firstBucket;
+		
+		/**
+		 * The level in the component hierarchy of each node, indexed by node
+		 * id. Leafs have level <code>0</code>.
+		 */
+		private int[] level;
+		
+		/**
+		 * The maximum index of an unvisited vertex in each component,
+		 * indexed by node id.
+		 */
+		private int[] lastUIndex;
+		
+		/**
+		 * The number of vertices of each internal node, indexed by node id.
+		 */
+		private int[] numberOfVertices;
+		
+		
+		/**
+		 * Constructs a new component tree for a graph with <code>n</code>
+		 * vertices. Use {@link #setParentOfLeaf(int, int)} and
+		 * {@link #setParentOfInternalNode(int, int)} in order to add
+		 * parent-child relationships to the constructed tree, and
+		 * {@link #initializeChildren()} and {@link #initializeBucketRanges()}
+		 * as soon as all of them have been added.
+		 * 
+		 * @see #setParentOfLeaf(int, int)
+		 * @see #setParentOfInternalNode(int, int)
+		 * @see #initializeChildren()
+		 * @see #initializeBucketRanges()
+		 * @param n
 		 * 		the number of vertices to construct the component tree of
 		 */
 		public ComponentTree(int n) {
-			leafs = new TreeNode[n];
+			this.n = n;
+			numberOfNodes = 2 * n;
 			
-			for (int i = 0; i < n; i++) {
-				leafs[i] = new TreeNode(i);
-			}
+			parent = new int[numberOfNodes];
+			Arrays.fill(parent, -1);
 			
-			internalNodes = new TreeNode[n];
+			delta = new int[numberOfNodes];
+			level = new int[numberOfNodes];
+			lastUIndex = new int[numberOfNodes];
+			numberOfVertices = new int[numberOfNodes];
+			
+			// a tree of a single vertex consists of its leaf only
+			root = 0;
 		}
 		
 		/**
@@ -646,9 +2112,9 @@ public class Thorup {
 		 * 		index 
 		 */
 		public void setDelta(int internalNode, int delta) {
-			internalNodes[internalNode].delta = delta;
+			this.delta[n + internalNode] = delta;
 		}
-
+		
 		/**
 		 * Sets the level in the component hierarchy of the internal node with
 		 * the passed index.
@@ -659,7 +2125,7 @@ public class Thorup {
 		 * 		the new level of the internal node with the passed index
 		 */
 		public void setI(int internalNode, int i) {
-			internalNodes[internalNode].i = i;
+			level[n + internalNode] = i;
 		}
 		
 		/**
@@ -673,14 +2139,8 @@ public class Thorup {
 		 * 		the index of the component that will be the parent
 		 */
 		public void setParentOfLeaf(int leaf, int parent) {
-			if (internalNodes[parent] == null) {
-				internalNodes[parent] = new TreeNode(parent);
-				root = internalNodes[parent];
-			}
-			
-			leafs[leaf].setParent(internalNodes[parent]);
-			internalNodes[parent].numberOfUnvisitedVertices++;
-			internalNodes[parent].numberOfUnvisitedVerticesInitial++;
+			setParent(leaf, n + parent);
+			numberOfVertices[n + parent]++;
 		}
 		
 		/**
@@ -694,193 +2154,88 @@ public class Thorup {
 		 * 		the index of the component that will be the parent
 		 */
 		public void setParentOfInternalNode(int internalNode, int parent) {
-			if (internalNodes[parent] == null) {
-				internalNodes[parent] = new TreeNode(parent);
-				root = internalNodes[parent];
-			}
-			
-			internalNodes[internalNode].setParent(internalNodes[parent]);
-			internalNodes[parent].numberOfUnvisitedVertices +=
-				internalNodes[internalNode].numberOfUnvisitedVertices;
-			internalNodes[parent].numberOfUnvisitedVerticesInitial +=
-				internalNodes[internalNode].numberOfUnvisitedVerticesInitial;
+			setParent(n + internalNode, n + parent);
+			numberOfVertices[n + parent] +=
+				numberOfVertices[n + internalNode];
 		}
 		
 		/**
-		 * A node of a component tree of a weighted, undirected graph with
-		 * positive integer edge weights.
-		 * 
-		 * @author
-		 * 		<a href="mailto:npr@informatik.uni-kiel.de">Nick Pr&uuml;hs</a>
-		 * @version
-		 * 		1.0, 09/17/09
-		 */
-		private static class TreeNode {
-			/**
-			 * The parent of this node.
-			 */
-			private TreeNode parent;
-			
-			/**
-			 * The list of children of this node.
-			 */
-			private LinkedList<TreeNode> children;
-			
-			/**
-			 * The index of this tree node.
-			 */
-			private int index;
-			
-			/**
-			 * The buckets of this tree node.
-			 */
-			private LinkedList<TreeNode>[] buckets;
-			
-			/**
-			 * The number of buckets of this tree node.
-			 */
-			private int delta;
-			
-			/**
-			 * The lowest bucket index of this tree node.
-			 */
-			private int ix0;
-			
-			/**
-			 * The highest bucket index of this tree node.
-			 */
-			private int ix8;
-			
-			/**
-			 * The level in the component hierarchy of this tree node.
-			 */
-			private int i;
-			
-			/**
-			 * Whether this component has already been visited, or not.
-			 */
-			private boolean visited;
-			
-			/**
-			 * The offset required to index into the array of buckets of this
-			 * tree node.
-			 */
-			private int bucketIndexOffset;
-			
-			/**
-			 * The bucket this tree node is in.
-			 */
-			private LinkedList<TreeNode> containingBucket;
-			
-			/**
-			 * The index of the next bucket to visit children of.
-			 */
-			private int ix;
-			
-			/**
-			 * The maximum index of an unvisited vertex in this component. 
-			 */
-			private int lastUIndex;
-			
-			/**
-			 * The number of unvisited vertices of this component.
-			 */
-			private int numberOfUnvisitedVertices;
-			
-			/**
-			 * The initial number of unvisited vertices of this component.
-			 * Required for a fast clean-up between repetitive queries.
-			 */
-			private int numberOfUnvisitedVerticesInitial;
+		 * Groups the children of all nodes of this tree after all
+		 * parent-child relationships have been added.
+		 */
+		public void initializeChildren() {
+			// count the children of all nodes
+			firstChild = new int[numberOfNodes + 1];
 			
+			for (int v = 0; v < numberOfNodes; v++) {
+				if (parent[v] != -1) {
+					firstChild[parent[v] + 1]++;
+				}
+			}
 			
-			/**
-			 * Constructs a new component tree node with the specified index.
-			 * 
-			 * @param index
-			 * 		the index of the new component tree node
-			 */
-			public TreeNode(int index) {
-				this.index = index;
-				children = new LinkedList<TreeNode>();
+			for (int v = 0; v < numberOfNodes; v++) {
+				firstChild[v + 1] += firstChild[v];
 			}
 			
+			// store the children grouped by parent
+			children = new int[firstChild[numberOfNodes]];
+			int[] nextChild = Arrays.copyOf(firstChild, numberOfNodes);
 			
-			/**
-			 * Removes this node from its containing bucket.
-			 */
-			public void removeFromParentBucket() {
-				containingBucket.remove(this);
-			}
-
-			/**
-			 * Moves this node to the bucket with the specified index of the
-			 * passed other node.
-			 * 
-			 * @param wi
-			 * 		the node which owns the bucket to insert this one into
-			 * @param index
-			 * 		the index of the bucket to insert this node into
-			 */
-			public void moveToBucket(TreeNode wi, int index) {
-				if (containingBucket != null) {
-					containingBucket.remove(this);
-				}
-				wi.bucket(this, index);
-			}
-
-			/**
-			 * Inserts the passed tree node into the bucket with the specified
-			 * index, if the latter is <i>relevant</i>.
-			 * 
-			 * @param wh
-			 * 		the node to bucket
-			 * @param index
-			 * 		the index of the bucket to insert the passed into
-			 */
-			public void bucket(TreeNode wh, int index) {
-				if (index - bucketIndexOffset < buckets.length) {
-					buckets[index - bucketIndexOffset].add(wh);
-					wh.containingBucket = buckets[index - bucketIndexOffset];
+			for (int v = 0; v < numberOfNodes; v++) {
+				if (parent[v] != -1) {
+					children[nextChild[parent[v]]++] = v;
 				}
 			}
-
-			/**
-			 * Returns the bucket with the specified index of this node.
-			 * 
-			 * @param index
-			 * 		the index of the bucket to get
-			 * @return
-			 * 		the bucket with the specified index of this node
-			 */
-			public LinkedList<TreeNode> getBucket(int index) {
-				return buckets[index - bucketIndexOffset];
-			}
-			
-			/**
-			 * Makes this node a child of the passed one.
-			 * 
-			 * @param parent
-			 * 		the new parent of this node
-			 */
-			public void setParent(TreeNode parent) {
-				this.parent = parent;
-				parent.children.add(this);
-			}
+		}
+		
+		/**
+		 * Assigns consecutive ranges of bucket indices to all internal nodes
+		 * of this tree, after the numbers of buckets of all of them have been
+		 * set.
+		 */
+		public void initializeBucketRanges() {
+			firstBucket = new int[numberOfNodes + 1];
 			
-			/**
-			 * Initializes all buckets of this node.
-			 */
-			@SuppressWarnings("unchecked")
-			public void initializeBuckets() {
-				bucketIndexOffset = ix0;
-				buckets = new LinkedList[ix8 - ix0 + 1];
+			for (int v = 0; v < numberOfNodes; v++) {
+				firstBucket[v + 1] = firstBucket[v];
 				
-				for (int b = 0; b <= (ix8 - ix0); b++) {
-					buckets[b] = new LinkedList<TreeNode>();
+				if (!isLeaf(v) && numberOfVertices[v] > 0) {
+					firstBucket[v + 1] += delta[v] + 1;
 				}
 			}
 		}
+		
+		/**
+		 * Checks whether the node with the passed id is a leaf of this tree.
+		 * 
+		 * @param v
+		 * 		the id of the node to check
+		 * @return
+		 * 		<code>true</code>, if the node with the passed id is a leaf,
+		 * 		and <code>false</code> otherwise
+		 */
+		public boolean isLeaf(int v) {
+			return v < n;
+		}
+		
+		
+		/**
+		 * Makes the node with the first passed id a child of the one with the
+		 * second passed id. The most recently created internal node is the
+		 * root of this tree.
+		 * 
+		 * @param child
+		 * 		the id of the new child
+		 * @param parent
+		 * 		the id of the new parent
+		 */
+		private void setParent(int child, int parent) {
+			if (numberOfVertices[parent] == 0) {
+				root = parent;
+			}
+			
+			this.parent[child] = parent;
+		}
 	}
 	
 	/**
@@ -895,65 +2250,96 @@ public class Thorup {
 	private static class UnvisitedDataStructure {
 		/**
 		 * Maps the indices of vertices to the indices of their corresponding
-		 * containers of the split-findmin structure.
+		 * elements of the split-findmin structure.
 		 */
 		private int[] indexOfVertex;
 		
 		/**
-		 * The containers of the split-findmin structure representing the
+		 * The component tree whose unvisited part is maintained by this
+		 * structure.
+		 */
+		private ComponentTree t;
+		
+		/**
+		 * The split-findmin structure holding the super-distances D of all
 		 * vertices.
 		 */
-		private SplitFindminStructureElement<Integer>[] containers;
-
+		private IntSplitFindminStructure sf;
+		
 		
 		/**
-		 * Constructs a new unvisited data structure for a graph with the
-		 * specified number of vertices, using the passed corresponding
-		 * component tree and the passed split-findmin structure.
+		 * Constructs a new unvisited data structure for the passed component
+		 * tree using the passed mapping of vertices to split-findmin
+		 * structure elements and the passed split-findmin structure.
 		 * 
-		 * @param n
-		 * 		the number of vertices of the graph the new unvisited data
-		 * 		structure will belong to
 		 * @param t
-		 * 		the component tree belonging to the graph
+		 * 		the component tree to maintain the unvisited part of
+		 * @param indexOfVertex
+		 * 		the mapping of the indices of vertices to the indices of their
+		 * 		corresponding elements, which has to map the leaves of every
+		 * 		component to consecutive indices
 		 * @param sf
-		 * 		an empty split-findmin structure to be used by the new
-		 * 		unvisited data structure
+		 * 		a split-findmin structure in its initial state to be used by
+		 * 		the new unvisited data structure
 		 */
-		@SuppressWarnings("unchecked")
-		public UnvisitedDataStructure(int n, ComponentTree t,
-				SplitFindminStructure<Integer> sf) {
-			indexOfVertex = new int[n];
-
-			initializeMapping(t.root, 0);
-
-			containers = new SplitFindminStructureElement[n];
-
-			for (int i = 0; i < n; i++) {
-				containers[i] = sf.add(i, Double.POSITIVE_INFINITY);
-			}
-
-			sf.initialize();
+		public UnvisitedDataStructure(ComponentTree t, int[] indexOfVertex,
+				IntSplitFindminStructure sf) {
+			this.t = t;
+			this.indexOfVertex = indexOfVertex;
+			this.sf = sf;
+		}
+		
+		
+		/**
+		 * Re-initializes this unvisited data structure by resetting its
+		 * split-findmin structure, setting the super-distances D of all
+		 * vertices to infinity.
+		 */
+		public void reset() {
+			sf.reset();
+		}
+		
+		/**
+		 * Re-initializes this unvisited data structure with the passed
+		 * split-findmin structure, setting the super-distances D of all
+		 * vertices to infinity.
+		 * 
+		 * @param sf
+		 * 		a split-findmin structure in its initial state to be used by
+		 * 		this unvisited data structure
+		 */
+		public void reset(IntSplitFindminStructure sf) {
+			this.sf = sf;
 		}
 		
+		/**
+		 * Gets the split-findmin structure used by this unvisited data
+		 * structure.
+		 * 
+		 * @return
+		 * 		the split-findmin structure used by this structure
+		 */
+		public IntSplitFindminStructure getSplitFindminStructure() {
+			return sf;
+		}
 		
 		/**
 		 * Gets the minimum among all super-distances D of the passed node and
-		 * all of its unvisited children, if it is less than
-		 * {@link Double#POSITIVE_INFINITY}, and <code>-1</code> otherwise.
+		 * all of its unvisited children, if it is finite, and <code>-1</code>
+		 * otherwise.
 		 * 
 		 * @param v
-		 * 		the node to get the minimum super-distance of
+		 * 		the id of the node to get the minimum super-distance of
 		 * @return
 		 * 		minimum among all super-distances D of the passed node and
 		 * 		all of its unvisited children
 		 */
-		public int getMinDviMinus(ComponentTree.TreeNode v) {
-			double cost = containers[v.lastUIndex].getListCost();
+		public int getMinDviMinus(int v) {
+			int cost = sf.getListCost(t.lastUIndex[v]);
 			
-			return Double.isInfinite(cost) ? -1 : (int)cost;
+			return cost == Integer.MAX_VALUE ? -1 : cost;
 		}
-
+		
 		/**
 		 * Decreases the super-distance D of the vertex with the passed index to
 		 * the specified new value.
@@ -964,9 +2350,9 @@ public class Thorup {
 		 * 		the new lower super-distance D
 		 */
 		public void decreaseD(int v, int newDValue) {
-			containers[indexOfVertex[v]].decreaseCost(newDValue);
+			sf.decreaseCost(indexOfVertex[v], newDValue);
 		}
-
+		
 		/**
 		 * Gets the super-distance D of the vertex with the passed index.
 		 * 
@@ -976,76 +2362,20 @@ public class Thorup {
 		 * 		the super-distance D of the vertex with the passed index
 		 */
 		public int getD(int v) {
-			return (int)containers[indexOfVertex[v]].getCost();
+			return sf.getCost(indexOfVertex[v]);
 		}
-
-		/**
-		 * Gets the unvisited root of subtree of the leaf with the passed index
-		 * in the unvisited part of the passed component tree.
-		 * 
-		 * @param t
-		 * 		the component tree to check the unvisited part of
-		 * @param w
-		 * 		the index of the leaf to get the unvisited root of
-		 * @return
-		 * 		the unvisited root of subtree of the leaf with the passed index
-		 */
-		public ComponentTree.TreeNode getUnvisitedRootOf(ComponentTree t,
-				int w) {
-			ComponentTree.TreeNode current = t.leafs[w];
-			while (!current.parent.visited) {
-				current = current.parent;
-			}
-			
-			return current;
-		}
-
+		
 		/**
 		 * Delete the passed root of the unvisited part of the component tree,
 		 * turning all its children into new roots of this structure.
 		 * 
 		 * @param v
-		 * 		the root to delete
+		 * 		the id of the root to delete
 		 */
-		public void deleteRoot(ComponentTree.TreeNode v) {
+		public void deleteRoot(int v) {
 			// turn the children of v into roots in this structure
-			for (ComponentTree.TreeNode child : v.children) {
-				if (child != v.children.getLast()) {
-					containers[child.lastUIndex].split();
-				}
-			}
-		}
-		
-		
-		/**
-		 * Recursively initializes the mapping of the indices of the passed
-		 * vertex and all of its children to the indices of their corresponding
-		 * containers of the split-findmin structure.
-		 * 
-		 * @param node
-		 * 		the node to map
-		 * @param index
-		 * 		the index to map the node to
-		 * @return
-		 * 		the index of the next node to map
-		 */
-		private int initializeMapping(ComponentTree.TreeNode node, int index) {
-			if (node.children.isEmpty()) {
-				indexOfVertex[node.index] = index;
-
-				node.lastUIndex = index;
-				
-				return index + 1;
-			} else {
-				int nextIndex = index;
-				
-				for (ComponentTree.TreeNode child : node.children) {
-					nextIndex = initializeMapping(child, nextIndex);
-				}
-				
-				node.lastUIndex = nextIndex - 1;
-				
-				return nextIndex;
+			for (int c = t.firstChild[v]; c < t.firstChild[v + 1] - 1; c++) {
+				sf.split(t.lastUIndex[t.children[c]]);
 			}
 		}
 	}
@@ -1,6 +1,7 @@
 package de.unikiel.npr.thorup.ds;
 
-import java.util.Hashtable;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A table that allows accessing the values of <i>Ackermann</i>'s function
@@ -12,55 +13,138 @@ import java.util.Hashtable;
  * 		1.0, 09/17/09
  */
 public class AckermannTable {
+	/**
+	 * The tables that have been constructed by {@link #getInstance(int)} so
+	 * far, mapped to their maximum values.
+	 */
+	private static final ConcurrentHashMap<Integer, AckermannTable> instances =
+		new ConcurrentHashMap<Integer, AckermannTable>();
+	
+	/**
+	 * The maximum value of this table.
+	 */
+	private int n;
+	
 	/**
 	 * The table containing the values of <i>Ackermann</i>'s function.
+	 * <code>table[i][j]</code> holds <i>A(i, j)</i> for all <i>j</i> greater
+	 * than <code>0</code>, and <code>table[i][0]</code> is always
+	 * <code>2</code>. Row <code>0</code> is empty except for that value.
 	 */
-	private Hashtable<Integer, Hashtable<Integer, Integer>> table;
-
+	private int[][] table;
+	
+	/**
+	 * The precomputed thresholds of the inverse of <i>Ackermann</i>'s
+	 * function. <code>thresholds[i][j]</code> holds <i>2 A(i, j)</i>, so the
+	 * inverse <i>a(i, n)</i> is the largest <i>j</i> whose threshold is
+	 * <i>n</i> or less.
+	 */
+	private long[][] thresholds;
+	
 	
 	/**
 	 * Constructs a new table, computing all values of <i>Ackermann</i>'s
-	 * function <i>A(i, j)</i> that are <i>n</i> or less.
+	 * function <i>A(i, j)</i> that are <i>n</i> or less. Consider using
+	 * {@link #getInstance(int)} instead, which shares the tables of equal
+	 * maximum values.
 	 * 
 	 * @param n
 	 * 		the maximum value of the new table
 	 */
 	public AckermannTable(int n) {
-		// construct new table
-		table = new Hashtable<Integer, Hashtable<Integer, Integer>>();
+		this.n = n;
 		
-		// set first value
-		int i = 1;
-		int j = 2;
-		setValue(1, 1, 2);
+		// compute all rows until one has no single entry
+		int[][] rows = new int[2][];
+		rows[0] = new int[] { 2 };
+		int numberOfRows = 1;
 		
 		while (true) {
-			int newValue = -1;
+			int i = numberOfRows;
+			int[] row = new int[32];
+			row[0] = 2;
+			int j = 1;
 			
-			// compute next entry
+			// set first value
 			if (i == 1) {
-				newValue = getValue(i, j - 1) * 2;
-			} else {
-				newValue = getValue(i - 1, getValue(i, j - 1));
+				row[j++] = 2;
 			}
 			
-			if (newValue > n || newValue == -1) {
-				if (j == 1) {
-					// no single entry in this row - return
-					return;
+			while (true) {
+				long newValue;
+				
+				// compute next entry
+				if (i == 1) {
+					newValue = 2L * row[j - 1];
 				} else {
-					// go to the next row
-					i++;
-					j = 1;
+					newValue = getValue(rows[i - 1], row[j - 1]);
+				}
+				
+				if (newValue > n || newValue == -1) {
+					break;
 				}
-			} else {
+				
 				// save the computed value
-				setValue(i, j, newValue);
-				j++;
+				if (j == row.length) {
+					row = Arrays.copyOf(row, 2 * row.length);
+				}
+				
+				row[j++] = (int)newValue;
+			}
+			
+			if (j == 1) {
+				// no single entry in this row - stop
+				break;
+			}
+			
+			if (numberOfRows == rows.length) {
+				rows = Arrays.copyOf(rows, 2 * rows.length);
+			}
+			
+			rows[numberOfRows++] = Arrays.copyOf(row, j);
+		}
+		
+		table = Arrays.copyOf(rows, numberOfRows);
+		
+		// precompute the thresholds of the inverse function
+		thresholds = new long[numberOfRows][];
+		
+		for (int i = 0; i < numberOfRows; i++) {
+			thresholds[i] = new long[table[i].length];
+			
+			for (int j = 0; j < table[i].length; j++) {
+				thresholds[i][j] = 2L * table[i][j];
 			}
 		}
 	}
 	
+	
+	/**
+	 * Gets the table of all values of <i>Ackermann</i>'s function
+	 * <i>A(i, j)</i> that are <i>n</i> or less. Tables are immutable, thus
+	 * every table is constructed only once and shared by all callers.
+	 * 
+	 * @param n
+	 * 		the maximum value of the table
+	 * @return
+	 * 		the table with the passed maximum value
+	 */
+	public static AckermannTable getInstance(int n) {
+		AckermannTable instance = instances.get(n);
+		
+		if (instance == null) {
+			instance = new AckermannTable(n);
+			
+			AckermannTable previous = instances.putIfAbsent(n, instance);
+			
+			if (previous != null) {
+				instance = previous;
+			}
+		}
+		
+		return instance;
+	}
+	
 	/**
 	 * Returns the value of <i>Ackermann</i>'s function <i>A(i, j)</i>, if it
 	 * is <i>n</i> or less, and <code>-1</code> otherwise.
@@ -75,18 +159,10 @@ public class AckermannTable {
 	public int getValue(int i, int j) {
 		if (j == 0) {
 			return 2;
+		} else if (i < 1 || i >= table.length) {
+			return -1;
 		} else {
-			if (table.containsKey(i)) {
-				Hashtable<Integer, Integer> rowI = table.get(i);
-				
-				if (rowI.containsKey(j)) {
-					return rowI.get(j);
-				} else {
-					return -1;
-				}
-			} else {
-				return -1;
-			}
+			return getValue(table[i], j);
 		}
 	}
 	
@@ -101,22 +177,30 @@ public class AckermannTable {
 	 * 		the inverse of <i>A(m, n)</i>
 	 */
 	public int getInverse(int m, int n) {
-		 if (n >= 4) {
-				int j = 0;
-				
-				while (2 * getValue(m, j) <= n && getValue(m, j) != -1) {
-					j++;
-				}
-				
-				return j - 1;
+		if (n >= 4) {
+			// rows that are not part of this table only contain A(m, 0)
+			if (m < 1 || m >= table.length) {
+				return 0;
+			}
+			
+			// find the largest j with 2 A(m, j) <= n
+			long[] row = thresholds[m];
+			int j = 1;
+			
+			while (j < row.length && row[j] <= n) {
+				j++;
+			}
+			
+			return j - 1;
 		} else if (m >= n) {
-				int i = 1;
-				
-				while (getValue(i, (int)Math.floor(m / n)) != -1) {
-					i++;
-				}
-				
-				return i;
+			int j = m / n;
+			int i = 1;
+			
+			while (getValue(i, j) != -1) {
+				i++;
+			}
+			
+			return i;
 		}
 		
 		return -1;
@@ -124,22 +208,18 @@ public class AckermannTable {
 	
 	
 	/**
-	 * Adds the passed value of <i>Ackermann</i>'s function <i>A(i, j)</i> to
-	 * this table.
+	 * Returns the value of <i>Ackermann</i>'s function in the passed row of
+	 * this table at the specified column, if it is part of this table, and
+	 * <code>-1</code> otherwise.
 	 * 
-	 * @param i
-	 * 		the first parameter for <i>Ackermann</i>'s function
+	 * @param row
+	 * 		the row of this table
 	 * @param j
-	 * 		the second parameter for <i>Ackermann</i>'s function
-	 * @param value
-	 * 		<i>A(i, j)</i>
+	 * 		the column of the value to get
+	 * @return
+	 * 		the value at the specified column of the passed row
 	 */
-	private void setValue(int i, int j, int value) {
-		if (!table.containsKey(i)) {
-			table.put(i, new Hashtable<Integer, Integer>());
-		}
-		
-		Hashtable<Integer, Integer> rowI = table.get(i);
-		rowI.put(j, value);
+	private static int getValue(int[] row, int j) {
+		return (j >= 0 && j < row.length) ? row[j] : -1;
 	}
 }
@@ -68,6 +68,18 @@ public class ArrayPriorityQueue<T> implements
 		return (numberOfElements == 0);
 	}
 	
+	/**
+	 * Removes all items from this priority queue in <i>O(size)</i>.
+	 */
+	public void clear() {
+		for (int i = 0; i < numberOfElements; i++) {
+			a[i] = null;
+		}
+		
+		numberOfElements = 0;
+		minItem = null;
+	}
+	
 	/**
 	 * Inserts the passed item with the specified key into this heap.
 	 * 
@@ -0,0 +1,321 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of an integer split-findmin structure using primitive
+ * arrays only, so that no objects are allocated per element.<br>
+ * <br>
+ * As lists are only ever split, every list is a range of consecutive
+ * elements. Each element stores the id of the list containing it, and each
+ * list stores its range and its cost, so the costs of elements and lists are
+ * both found in <i>O(1)</i>. Splitting a list moves the smaller one of its
+ * two parts to a new list id, which takes <i>O(log n)</i> amortized time per
+ * element over all splits. If the minimum of the old list is contained in
+ * that smaller part, the cost of the larger part is recomputed using a
+ * hierarchy of block minima over blocks of 64 elements each, in
+ * <i>O(log n)</i>. Decreasing the cost of an element updates these block
+ * minima as long as they change, which is <i>O(log n)</i> in the worst case,
+ * but usually only touches a single block.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class ArraySplitFindminStructure implements IntSplitFindminStructure {
+	/**
+	 * The binary logarithm of the number of entries per block of the block
+	 * minima.
+	 */
+	private static final int LOG_BLOCK_SIZE = 6;
+	
+	/**
+	 * The number of entries per block of the block minima.
+	 */
+	private static final int BLOCK_SIZE = 1 << LOG_BLOCK_SIZE;
+	
+	/**
+	 * The number of elements of this structure.
+	 */
+	private int n;
+	
+	/**
+	 * The costs of all elements of this structure.
+	 */
+	private int[] cost;
+	
+	/**
+	 * The minima of all blocks of this structure. <code>blockMin[0]</code>
+	 * holds the minimum costs of all blocks of elements, and
+	 * <code>blockMin[k]</code> the minima of all blocks of entries of
+	 * <code>blockMin[k - 1]</code>.
+	 */
+	private int[][] blockMin;
+	
+	/**
+	 * The ids of the lists containing the elements of this structure.
+	 */
+	private int[] listOf;
+	
+	/**
+	 * The indices of the first elements of all lists.
+	 */
+	private int[] listStart;
+	
+	/**
+	 * The indices of the last elements of all lists.
+	 */
+	private int[] listEnd;
+	
+	/**
+	 * The costs of all lists.
+	 */
+	private int[] listCost;
+	
+	/**
+	 * The number of lists of this structure.
+	 */
+	private int numberOfLists;
+	
+	
+	/**
+	 * Constructs a new split-findmin structure with the specified number of
+	 * elements, all of them having infinite costs and forming a single list.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new split-findmin structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public ArraySplitFindminStructure(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.n = n;
+		
+		cost = new int[n];
+		listOf = new int[n];
+		listStart = new int[Math.max(n, 1)];
+		listEnd = new int[Math.max(n, 1)];
+		listCost = new int[Math.max(n, 1)];
+		
+		// compute the number of levels of block minima
+		int levels = 0;
+		
+		for (int size = n; size > BLOCK_SIZE; levels++) {
+			size = ((size - 1) >> LOG_BLOCK_SIZE) + 1;
+		}
+		
+		blockMin = new int[levels][];
+		
+		for (int k = 0, size = n; k < levels; k++) {
+			size = ((size - 1) >> LOG_BLOCK_SIZE) + 1;
+			blockMin[k] = new int[size];
+		}
+		
+		reset();
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this split-findmin structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this split-findmin structure
+	 */
+	public int getNumberOfElements() {
+		return n;
+	}
+	
+	/**
+	 * Resets this split-findmin structure to its initial state, joining all
+	 * elements to a single list again and setting their costs to infinity,
+	 * in <i>O(n)</i>.
+	 */
+	public void reset() {
+		Arrays.fill(cost, Integer.MAX_VALUE);
+		Arrays.fill(listOf, 0);
+		
+		for (int k = 0; k < blockMin.length; k++) {
+			Arrays.fill(blockMin[k], Integer.MAX_VALUE);
+		}
+		
+		listStart[0] = 0;
+		listEnd[0] = n - 1;
+		listCost[0] = Integer.MAX_VALUE;
+		numberOfLists = 1;
+	}
+	
+	/**
+	 * Decreases the cost of the passed element and updates the minimum of the
+	 * list containing it, if necessary. Costs greater than the current cost
+	 * of the element are ignored.
+	 * 
+	 * @param x
+	 * 		the index of the element to decrease the cost of
+	 * @param newCost
+	 * 		the new cost of the element
+	 */
+	public void decreaseCost(int x, int newCost) {
+		if (newCost >= cost[x]) {
+			return;
+		}
+		
+		cost[x] = newCost;
+		
+		// update the block minima as long as they change
+		int i = x;
+		
+		for (int k = 0; k < blockMin.length; k++) {
+			i >>= LOG_BLOCK_SIZE;
+			
+			if (blockMin[k][i] <= newCost) {
+				break;
+			}
+			
+			blockMin[k][i] = newCost;
+		}
+		
+		// update the cost of the list
+		int l = listOf[x];
+		
+		if (newCost < listCost[l]) {
+			listCost[l] = newCost;
+		}
+	}
+	
+	/**
+	 * Replaces the list containing the passed element by the list of all
+	 * elements up to and including it, and the list of all remaining elements.
+	 * The costs of the two new lists are set to their proper values.
+	 * 
+	 * @param x
+	 * 		the index of the element to split the list after
+	 */
+	public void split(int x) {
+		int l = listOf[x];
+		int start = listStart[l];
+		int end = listEnd[l];
+		
+		// nothing to do if x is the last element of its list
+		if (x == end) {
+			return;
+		}
+		
+		// move the smaller part to a new list
+		int newList = numberOfLists++;
+		int movedStart;
+		int movedEnd;
+		
+		if (x - start < end - x) {
+			movedStart = start;
+			movedEnd = x;
+			listStart[l] = x + 1;
+		} else {
+			movedStart = x + 1;
+			movedEnd = end;
+			listEnd[l] = x;
+		}
+		
+		int movedCost = Integer.MAX_VALUE;
+		
+		for (int y = movedStart; y <= movedEnd; y++) {
+			listOf[y] = newList;
+			
+			if (cost[y] < movedCost) {
+				movedCost = cost[y];
+			}
+		}
+		
+		listStart[newList] = movedStart;
+		listEnd[newList] = movedEnd;
+		listCost[newList] = movedCost;
+		
+		// recompute the cost of the remaining part, if it might have changed
+		if (movedCost <= listCost[l]) {
+			listCost[l] = getMinimumCost(listStart[l], listEnd[l]);
+		}
+	}
+	
+	/**
+	 * Returns the cost of the passed element.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the cost of
+	 * @return
+	 * 		the cost of the passed element
+	 */
+	public int getCost(int x) {
+		return cost[x];
+	}
+	
+	/**
+	 * Returns the cost of the list containing the passed element.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the list cost of
+	 * @return
+	 * 		the cost of the list containing the passed element
+	 */
+	public int getListCost(int x) {
+		return listCost[listOf[x]];
+	}
+	
+	
+	/**
+	 * Computes the minimum cost of all elements between the passed indices,
+	 * using the block minima for all blocks completely contained in that
+	 * range.
+	 * 
+	 * @param from
+	 * 		the index of the first element of the range
+	 * @param to
+	 * 		the index of the last element of the range
+	 * @return
+	 * 		the minimum cost of all elements of the range
+	 */
+	private int getMinimumCost(int from, int to) {
+		int min = Integer.MAX_VALUE;
+		int[] a = cost;
+		
+		for (int k = 0; ; k++) {
+			// scan short ranges and the topmost level directly
+			if (to - from < 2 * BLOCK_SIZE || k == blockMin.length) {
+				for (int i = from; i <= to; i++) {
+					if (a[i] < min) {
+						min = a[i];
+					}
+				}
+				
+				return min;
+			}
+			
+			// scan the entries before the first and after the last full block
+			while ((from & (BLOCK_SIZE - 1)) != 0) {
+				if (a[from] < min) {
+					min = a[from];
+				}
+				
+				from++;
+			}
+			
+			while ((to & (BLOCK_SIZE - 1)) != BLOCK_SIZE - 1) {
+				if (a[to] < min) {
+					min = a[to];
+				}
+				
+				to--;
+			}
+			
+			// continue with the minima of the full blocks
+			from >>= LOG_BLOCK_SIZE;
+			to >>= LOG_BLOCK_SIZE;
+			a = blockMin[k];
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of a union-find structure using a single primitive
+ * array, with union by size and find with path halving. No objects are
+ * allocated per element.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class ArrayUnionFindStructure implements IntUnionFindStructure {
+	/**
+	 * The parents of all elements of this structure. Canonical elements store
+	 * the negated size of their set instead.
+	 */
+	private int[] parent;
+	
+	
+	/**
+	 * Constructs a new union-find structure with the specified number of
+	 * elements, each of them forming a singleton set.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new union-find structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public ArrayUnionFindStructure(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		parent = new int[n];
+		
+		reset();
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this union-find structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this union-find structure
+	 */
+	public int getNumberOfElements() {
+		return parent.length;
+	}
+	
+	/**
+	 * Resets this union-find structure, making every element form a
+	 * singleton set again.
+	 */
+	public void reset() {
+		Arrays.fill(parent, -1);
+	}
+	
+	/**
+	 * Returns the canonical element of the set containing <code>v</code>,
+	 * making every other element on the path to it point to its grandparent.
+	 * 
+	 * @param v
+	 * 		the element to get the canonical element of
+	 * @return
+	 * 		the canonical element of the set containing <code>v</code>
+	 */
+	public int find(int v) {
+		while (parent[v] >= 0) {
+			int p = parent[v];
+			
+			if (parent[p] >= 0) {
+				// path halving: skip the parent and continue at the grandparent
+				parent[v] = parent[p];
+				v = parent[v];
+			} else {
+				v = p;
+			}
+		}
+		
+		return v;
+	}
+	
+	/**
+	 * Merges the sets containing the elements <code>u</code> and
+	 * <code>v</code>, if they are different, making the canonical element of
+	 * the smaller set a child of the one of the larger set.
+	 * 
+	 * @param u
+	 * 		an element in the first set to merge
+	 * @param v
+	 * 		an element in the second set to merge
+	 * @return
+	 * 		<code>true</code>, if two different sets have been merged, and
+	 * 		<code>false</code> otherwise
+	 */
+	public boolean union(int u, int v) {
+		int rootU = find(u);
+		int rootV = find(v);
+		
+		if (rootU == rootV) {
+			return false;
+		}
+		
+		// union with size
+		if (parent[rootU] > parent[rootV]) {
+			parent[rootV] += parent[rootU];
+			parent[rootU] = rootV;
+		} else {
+			parent[rootU] += parent[rootV];
+			parent[rootV] = rootU;
+		}
+		
+		return true;
+	}
+}
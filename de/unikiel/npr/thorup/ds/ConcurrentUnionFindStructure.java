@@ -0,0 +1,179 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free implementation of a union-find structure which may be used by
+ * several threads concurrently, as proposed by Jayanti and Tarjan.<br>
+ * <br>
+ * The parents of all elements are held by a single
+ * {@link AtomicIntegerArray}. Two sets are merged by linking the canonical
+ * element of one of them to the one of the other using a single
+ * compare-and-set operation, which is retried after finding the new
+ * canonical elements if another thread has changed any of them in the
+ * meantime. Canonical elements are linked by a fixed pseudo-random priority
+ * of all elements instead of the sizes of their sets, as these could not be
+ * updated atomically together with the parents. Finding the canonical
+ * element of a set uses path splitting, making every element on the path
+ * point to its grandparent by compare-and-set, which never breaks a path
+ * even if several threads do so at the same time.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class ConcurrentUnionFindStructure implements IntUnionFindStructure {
+	/**
+	 * The odd constant the indices of the elements are multiplied with for
+	 * computing their priorities. As it is odd, different elements always
+	 * have different priorities.
+	 */
+	private static final int PRIORITY_MULTIPLIER = 0x9E3779B9;
+	
+	/**
+	 * The parents of all elements of this structure. Canonical elements are
+	 * their own parents.
+	 */
+	private AtomicIntegerArray parent;
+	
+	
+	/**
+	 * Constructs a new union-find structure with the specified number of
+	 * elements, each of them forming a singleton set.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new union-find structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public ConcurrentUnionFindStructure(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		parent = new AtomicIntegerArray(n);
+		
+		reset();
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this union-find structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this union-find structure
+	 */
+	public int getNumberOfElements() {
+		return parent.length();
+	}
+	
+	/**
+	 * Resets this union-find structure, making every element form a
+	 * singleton set again. Must not be called concurrently with any other
+	 * operation.
+	 */
+	public void reset() {
+		for (int v = 0; v < parent.length(); v++) {
+			parent.set(v, v);
+		}
+	}
+	
+	/**
+	 * Returns the canonical element of the set containing <code>v</code>,
+	 * making every element on the path to it point to its grandparent. If
+	 * other threads merge sets concurrently, the returned element is the
+	 * canonical element of the set containing <code>v</code> at some point
+	 * of time during this call.
+	 * 
+	 * @param v
+	 * 		the element to get the canonical element of
+	 * @return
+	 * 		the canonical element of the set containing <code>v</code>
+	 */
+	public int find(int v) {
+		while (true) {
+			int p = parent.get(v);
+			int grandparent = parent.get(p);
+			
+			if (p == grandparent) {
+				return p;
+			}
+			
+			// path splitting
+			parent.compareAndSet(v, p, grandparent);
+			
+			v = p;
+		}
+	}
+	
+	/**
+	 * Checks whether the elements <code>u</code> and <code>v</code> are
+	 * contained in the same set. Unlike comparing the results of two calls
+	 * of {@link #find(int)}, this is safe even if other threads merge sets
+	 * concurrently.
+	 * 
+	 * @param u
+	 * 		the first element to check
+	 * @param v
+	 * 		the second element to check
+	 * @return
+	 * 		<code>true</code>, if both elements are contained in the same set,
+	 * 		and <code>false</code> otherwise
+	 */
+	public boolean sameSet(int u, int v) {
+		while (true) {
+			u = find(u);
+			v = find(v);
+			
+			if (u == v) {
+				return true;
+			}
+			
+			// u might have been linked to v in the meantime
+			if (parent.get(u) == u) {
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * Merges the sets containing the elements <code>u</code> and
+	 * <code>v</code>, if they are different, linking the canonical element
+	 * with the lower priority to the one with the higher priority. If several
+	 * threads try to merge the same two sets concurrently, exactly one of
+	 * them succeeds.
+	 * 
+	 * @param u
+	 * 		an element in the first set to merge
+	 * @param v
+	 * 		an element in the second set to merge
+	 * @return
+	 * 		<code>true</code>, if two different sets have been merged by this
+	 * 		call, and <code>false</code> otherwise
+	 */
+	public boolean union(int u, int v) {
+		while (true) {
+			u = find(u);
+			v = find(v);
+			
+			if (u == v) {
+				return false;
+			}
+			
+			// link by priority, retrying if the linked element is no root
+			if (u * PRIORITY_MULTIPLIER < v * PRIORITY_MULTIPLIER) {
+				if (parent.compareAndSet(u, u, v)) {
+					return true;
+				}
+			} else {
+				if (parent.compareAndSet(v, v, u)) {
+					return true;
+				}
+			}
+		}
+	}
+}
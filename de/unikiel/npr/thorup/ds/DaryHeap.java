@@ -0,0 +1,310 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of an indexed <i>d</i>-ary heap on primitive arrays.<br>
+ * <br>
+ * The heap is stored level by level in an array, the children of the entry
+ * at position <code>i</code> being found at the positions
+ * <code>d * i + 1</code> up to <code>d * i + d</code>. The keys are stored
+ * in heap order next to the elements, and the position of every element in
+ * the heap is stored in a separate array, which allows decreasing the key of
+ * an element without any search. Inserting an element and decreasing its key
+ * take <i>O(log<sub>d</sub> n)</i>, deleting the minimum takes
+ * <i>O(d log<sub>d</sub> n)</i>. Higher arities lead to shallower heaps with
+ * better cache locality.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class DaryHeap implements IntPriorityQueue {
+	/**
+	 * The arity of new heaps if none is specified.
+	 */
+	public static final int DEFAULT_ARITY = 4;
+	
+	/**
+	 * The arity of this heap.
+	 */
+	private int d;
+	
+	/**
+	 * The elements of this heap, in heap order.
+	 */
+	private int[] heap;
+	
+	/**
+	 * The keys of the elements of this heap, in heap order.
+	 */
+	private long[] keys;
+	
+	/**
+	 * The positions of all elements in this heap, or <code>-1</code> for
+	 * elements which are not contained.
+	 */
+	private int[] position;
+	
+	/**
+	 * The number of elements contained in this heap.
+	 */
+	private int size;
+	
+	
+	/**
+	 * Constructs a new, empty heap with the default arity for the elements
+	 * <code>0, ..., n - 1</code>.
+	 * 
+	 * @see #DEFAULT_ARITY
+	 * @param n
+	 * 		the number of elements of the new heap
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public DaryHeap(int n) {
+		this(n, DEFAULT_ARITY);
+	}
+	
+	/**
+	 * Constructs a new, empty heap with the specified arity for the elements
+	 * <code>0, ..., n - 1</code>.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new heap
+	 * @param d
+	 * 		the arity of the new heap
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 * @throws IllegalArgumentException
+	 * 		if <code>d</code> is less than 2
+	 */
+	public DaryHeap(int n, int d) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (d < 2) {
+			String errorMessage = "d must be greater than or equal to 2.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.d = d;
+		
+		heap = new int[n];
+		keys = new long[n];
+		position = new int[n];
+		
+		for (int v = 0; v < n; v++) {
+			position[v] = -1;
+		}
+	}
+	
+	
+	/**
+	 * Gets the number of elements this heap is defined on, which is the
+	 * maximum number of elements it can hold.
+	 * 
+	 * @return
+	 * 		the number of elements this heap is defined on
+	 */
+	public int getNumberOfElements() {
+		return position.length;
+	}
+	
+	/**
+	 * Gets the arity of this heap.
+	 * 
+	 * @return
+	 * 		the arity of this heap
+	 */
+	public int getArity() {
+		return d;
+	}
+	
+	/**
+	 * Checks whether this heap is empty, or not.
+	 * 
+	 * @return
+	 * 		<code>true</code>, if this heap is empty, and <code>false</code>
+	 * 		otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Checks whether the passed element is contained in this heap.
+	 * 
+	 * @param v
+	 * 		the element to check
+	 * @return
+	 * 		<code>true</code>, if the passed element is contained in this
+	 * 		heap, and <code>false</code> otherwise
+	 */
+	public boolean contains(int v) {
+		return position[v] >= 0;
+	}
+	
+	/**
+	 * Inserts the passed element, which must not be contained in this heap
+	 * yet, with the specified key in <i>O(log<sub>d</sub> n)</i>.
+	 * 
+	 * @param v
+	 * 		the element to insert
+	 * @param key
+	 * 		the key of the element to insert
+	 */
+	public void insert(int v, long key) {
+		siftUp(size++, v, key);
+	}
+	
+	/**
+	 * Gets the key of the passed element, which must be contained in this
+	 * heap.
+	 * 
+	 * @param v
+	 * 		the element to get the key of
+	 * @return
+	 * 		the key of the passed element
+	 */
+	public long getKey(int v) {
+		return keys[position[v]];
+	}
+	
+	/**
+	 * Decreases the key of the passed element, which must be contained in
+	 * this heap, to the specified key in <i>O(log<sub>d</sub> n)</i>.
+	 * 
+	 * @param v
+	 * 		the element to decrease the key of
+	 * @param newKey
+	 * 		the new key of the element, which must not be greater than its
+	 * 		current one
+	 */
+	public void decreaseKeyTo(int v, long newKey) {
+		siftUp(position[v], v, newKey);
+	}
+	
+	/**
+	 * Deletes the element with the minimum key from this heap and returns it,
+	 * in <i>O(d log<sub>d</sub> n)</i>.
+	 * 
+	 * @return
+	 * 		the element with the minimum key in this heap
+	 * @throws NoSuchElementException
+	 * 		if this heap is empty
+	 */
+	public int deleteMin() throws NoSuchElementException {
+		if (size == 0) {
+			throw new NoSuchElementException("This heap is empty.");
+		}
+		
+		int min = heap[0];
+		position[min] = -1;
+		
+		// move the last element to the root
+		size--;
+		
+		if (size > 0) {
+			siftDown(0, heap[size], keys[size]);
+		}
+		
+		return min;
+	}
+	
+	/**
+	 * Removes all elements from this heap in <i>O(size)</i>, allowing it to
+	 * be reused without allocating a new one.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			position[heap[i]] = -1;
+		}
+		
+		size = 0;
+	}
+	
+	
+	/**
+	 * Moves the passed element with the specified key up from the passed
+	 * position towards the root, until its parent has a smaller key.
+	 * 
+	 * @param i
+	 * 		the position to start at, which is free or holds the element
+	 * @param v
+	 * 		the element to move
+	 * @param key
+	 * 		the key of the element to move
+	 */
+	private void siftUp(int i, int v, long key) {
+		while (i > 0) {
+			int parent = (i - 1) / d;
+			
+			if (keys[parent] <= key) {
+				break;
+			}
+			
+			heap[i] = heap[parent];
+			keys[i] = keys[parent];
+			position[heap[i]] = i;
+			
+			i = parent;
+		}
+		
+		heap[i] = v;
+		keys[i] = key;
+		position[v] = i;
+	}
+	
+	/**
+	 * Moves the passed element with the specified key down from the passed
+	 * free position towards the leaves, until all of its children have
+	 * greater keys.
+	 * 
+	 * @param i
+	 * 		the free position to start at
+	 * @param v
+	 * 		the element to move
+	 * @param key
+	 * 		the key of the element to move
+	 */
+	private void siftDown(int i, int v, long key) {
+		while (true) {
+			int first = d * i + 1;
+			
+			if (first >= size) {
+				break;
+			}
+			
+			// find the child with the minimum key
+			int last = Math.min(first + d, size);
+			int min = first;
+			
+			for (int c = first + 1; c < last; c++) {
+				if (keys[c] < keys[min]) {
+					min = c;
+				}
+			}
+			
+			if (key <= keys[min]) {
+				break;
+			}
+			
+			heap[i] = heap[min];
+			keys[i] = keys[min];
+			position[heap[i]] = i;
+			
+			i = min;
+		}
+		
+		heap[i] = v;
+		keys[i] = key;
+		position[v] = i;
+	}
+}
@@ -0,0 +1,318 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of a monotone priority queue as a circular array of
+ * buckets, as proposed by Dial. It requires that the keys of all contained
+ * elements lie between the key of the most recently deleted minimum and that
+ * key plus a fixed maximum difference <i>C</i>, as is the case for
+ * <i>Dijkstra</i>'s algorithm on graphs whose maximum edge weight is
+ * <i>C</i>.<br>
+ * <br>
+ * The queue consists of <i>C + 1</i> buckets, the element with the key
+ * <i>k</i> being held by bucket <i>k mod (C + 1)</i>. Inserting elements and
+ * decreasing their keys takes <i>O(1)</i>, and deleting the minimum scans the
+ * buckets from the one of the most recently deleted minimum, which takes
+ * <i>O(D)</i> time in total, where <i>D</i> is the greatest key ever
+ * deleted. All buckets are intrusive doubly-linked lists on primitive
+ * arrays.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class DialQueue implements IntPriorityQueue {
+	/**
+	 * The keys of all elements of this queue.
+	 */
+	private long[] keys;
+	
+	/**
+	 * Whether the elements are contained in this queue.
+	 */
+	private boolean[] contained;
+	
+	/**
+	 * The successors of all elements in their buckets, or <code>-1</code> for
+	 * the last elements.
+	 */
+	private int[] next;
+	
+	/**
+	 * The predecessors of all elements in their buckets, or <code>-1</code>
+	 * for the first elements.
+	 */
+	private int[] previous;
+	
+	/**
+	 * The first elements of all buckets, or <code>-1</code> for empty
+	 * buckets.
+	 */
+	private int[] first;
+	
+	/**
+	 * The key of the most recently deleted minimum.
+	 */
+	private long last;
+	
+	/**
+	 * The number of elements contained in this queue.
+	 */
+	private int size;
+	
+	
+	/**
+	 * Constructs a new, empty queue for the elements
+	 * <code>0, ..., n - 1</code> whose keys differ by at most the specified
+	 * maximum difference from the most recently deleted minimum.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new queue
+	 * @param maximumKeyDifference
+	 * 		the maximum difference of the keys of all contained elements from
+	 * 		the most recently deleted minimum
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> or <code>maximumKeyDifference</code> is less
+	 * 		than 0
+	 * @throws IllegalArgumentException
+	 * 		if <code>maximumKeyDifference</code> is
+	 * 		{@link Integer#MAX_VALUE}
+	 */
+	public DialQueue(int n, int maximumKeyDifference) {
+		// check the passed natural numbers
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (maximumKeyDifference < 0 ||
+			maximumKeyDifference == Integer.MAX_VALUE) {
+			
+			String errorMessage = "The maximum key difference must be " +
+					"between 0 and " + (Integer.MAX_VALUE - 1) + ".";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		keys = new long[n];
+		contained = new boolean[n];
+		next = new int[n];
+		previous = new int[n];
+		first = new int[maximumKeyDifference + 1];
+		
+		for (int i = 0; i < first.length; i++) {
+			first[i] = -1;
+		}
+	}
+	
+	
+	/**
+	 * Gets the number of elements this queue is defined on, which is the
+	 * maximum number of elements it can hold.
+	 * 
+	 * @return
+	 * 		the number of elements this queue is defined on
+	 */
+	public int getNumberOfElements() {
+		return keys.length;
+	}
+	
+	/**
+	 * Gets the maximum difference of the keys of all contained elements from
+	 * the most recently deleted minimum.
+	 * 
+	 * @return
+	 * 		the maximum key difference of this queue
+	 */
+	public int getMaximumKeyDifference() {
+		return first.length - 1;
+	}
+	
+	/**
+	 * Checks whether this queue is empty, or not.
+	 * 
+	 * @return
+	 * 		<code>true</code>, if this queue is empty, and <code>false</code>
+	 * 		otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Checks whether the passed element is contained in this queue.
+	 * 
+	 * @param v
+	 * 		the element to check
+	 * @return
+	 * 		<code>true</code>, if the passed element is contained in this
+	 * 		queue, and <code>false</code> otherwise
+	 */
+	public boolean contains(int v) {
+		return contained[v];
+	}
+	
+	/**
+	 * Inserts the passed element, which must not be contained in this queue
+	 * yet, with the specified key in <i>O(1)</i>. Unless this queue is empty,
+	 * the key must lie between the one of the most recently deleted minimum
+	 * and that key plus the maximum key difference.
+	 * 
+	 * @param v
+	 * 		the element to insert
+	 * @param key
+	 * 		the key of the element to insert
+	 */
+	public void insert(int v, long key) {
+		// let the buckets start at the key of the first element, if necessary
+		if (size == 0 && (key < last || key - last >= first.length)) {
+			last = key;
+		}
+		
+		keys[v] = key;
+		contained[v] = true;
+		add(v);
+		size++;
+	}
+	
+	/**
+	 * Gets the key of the passed element, which must be contained in this
+	 * queue.
+	 * 
+	 * @param v
+	 * 		the element to get the key of
+	 * @return
+	 * 		the key of the passed element
+	 */
+	public long getKey(int v) {
+		return keys[v];
+	}
+	
+	/**
+	 * Decreases the key of the passed element, which must be contained in
+	 * this queue, to the specified key in <i>O(1)</i>. The key must not be
+	 * less than the one of the most recently deleted minimum.
+	 * 
+	 * @param v
+	 * 		the element to decrease the key of
+	 * @param newKey
+	 * 		the new key of the element, which must not be greater than its
+	 * 		current one
+	 */
+	public void decreaseKeyTo(int v, long newKey) {
+		remove(v);
+		keys[v] = newKey;
+		add(v);
+	}
+	
+	/**
+	 * Deletes the element with the minimum key from this queue and returns
+	 * it, scanning the buckets from the one of the most recently deleted
+	 * minimum.
+	 * 
+	 * @return
+	 * 		the element with the minimum key in this queue
+	 * @throws NoSuchElementException
+	 * 		if this queue is empty
+	 */
+	public int deleteMin() throws NoSuchElementException {
+		if (size == 0) {
+			throw new NoSuchElementException("This queue is empty.");
+		}
+		
+		// find the next non-empty bucket
+		int bucket = getBucket(last);
+		
+		while (first[bucket] < 0) {
+			bucket++;
+			last++;
+			
+			if (bucket == first.length) {
+				bucket = 0;
+			}
+		}
+		
+		int min = first[bucket];
+		
+		remove(min);
+		contained[min] = false;
+		size--;
+		
+		return min;
+	}
+	
+	/**
+	 * Removes all elements from this queue in <i>O(C + size)</i>, or in
+	 * <i>O(1)</i> if it is empty already, allowing it to be reused without
+	 * allocating a new one.
+	 */
+	public void clear() {
+		// all buckets of an empty queue are empty already
+		if (size > 0) {
+			for (int i = 0; i < first.length; i++) {
+				for (int v = first[i]; v >= 0; v = next[v]) {
+					contained[v] = false;
+				}
+				
+				first[i] = -1;
+			}
+		}
+		
+		last = 0;
+		size = 0;
+	}
+	
+	
+	/**
+	 * Gets the index of the bucket holding elements with the passed key.
+	 * 
+	 * @param key
+	 * 		the key to get the bucket of
+	 * @return
+	 * 		the index of the bucket holding elements with the passed key
+	 */
+	private int getBucket(long key) {
+		return (int)(key % first.length);
+	}
+	
+	/**
+	 * Adds the passed element to the front of the bucket of its key.
+	 * 
+	 * @param v
+	 * 		the element to add
+	 */
+	private void add(int v) {
+		int bucket = getBucket(keys[v]);
+		int w = first[bucket];
+		
+		next[v] = w;
+		previous[v] = -1;
+		
+		if (w >= 0) {
+			previous[w] = v;
+		}
+		
+		first[bucket] = v;
+	}
+	
+	/**
+	 * Removes the passed element from the bucket of its key.
+	 * 
+	 * @param v
+	 * 		the element to remove
+	 */
+	private void remove(int v) {
+		if (previous[v] >= 0) {
+			next[previous[v]] = next[v];
+		} else {
+			first[getBucket(keys[v])] = next[v];
+		}
+		
+		if (next[v] >= 0) {
+			previous[next[v]] = previous[v];
+		}
+	}
+}
@@ -9,7 +9,12 @@ import java.util.NoSuchElementException;
  * <br>
  * Provides insertion, finding the minimum, melding and decreasing keys in
  * constant amortized time, and deleting from an n-item heap in <i>O(log n)</i>
- * amortized time.
+ * amortized time.<br>
+ * <br>
+ * Heaps constructed for a maximum number of items allocate the containers
+ * and nodes for all of them in advance, handing them out again after every
+ * call of {@link #clear()}. Thus a heap may be reused for many queries
+ * without creating any containers or nodes after its construction.
  * 
  * @author
  * 		<a href="mailto:npr@informatik.uni-kiel.de">Nick Pr&uuml;hs</a>
@@ -31,12 +36,56 @@ public class FibonacciHeap<T> implements
 	 */
 	private int size;
 	
+	/**
+	 * The preallocated containers, each with its own node, handed out by
+	 * {@link #insert(Object, double)}, or <code>null</code> if containers
+	 * are allocated for each item.
+	 */
+	private FibonacciHeapItem<T>[] pool;
+	
+	/**
+	 * The number of preallocated containers handed out since this heap has
+	 * been constructed or cleared most recently.
+	 */
+	private int numberOfPooledItems;
+	
 	
 	/**
 	 * Constructs a new, empty Fibonacci heap.
 	 */
 	public FibonacciHeap() {}
 	
+	/**
+	 * Constructs a new, empty Fibonacci heap, allocating the containers and
+	 * nodes of the specified number of items in advance. Further items are
+	 * held by newly allocated containers.
+	 * 
+	 * @param n
+	 * 		the number of items to allocate containers and nodes for
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public FibonacciHeap(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		@SuppressWarnings("unchecked")
+		FibonacciHeapItem<T>[] items = (FibonacciHeapItem<T>[])
+			new FibonacciHeapItem<?>[n];
+		pool = items;
+		
+		for (int i = 0; i < n; i++) {
+			pool[i] = new FibonacciHeapItem<T>(null, 0);
+			
+			// the new node becomes the containing node of the container
+			new TreeNode<T>(pool[i]);
+		}
+	}
+	
 	
 	/**
 	 * Checks whether this heap is empty, or not.
@@ -50,15 +99,19 @@ public class FibonacciHeap<T> implements
 	}
 	
 	/**
-	 * Clears this Fibonacci heap, removing all items.
+	 * Clears this Fibonacci heap, removing all items. All preallocated
+	 * containers are handed out again afterwards, so containers returned
+	 * before must not be used any more.
 	 */
 	public void clear() {
 		minimumNode = null;
 		size = 0;
+		numberOfPooledItems = 0;
 	}
 	
 	/**
-	 * Inserts the passed item with the specified key into this heap.
+	 * Inserts the passed item with the specified key into this heap, using
+	 * the next preallocated container, if there is any left.
 	 * 
 	 * @param item
 	 * 		the item to insert
@@ -68,16 +121,40 @@ public class FibonacciHeap<T> implements
 	 * 		the container that holds the passed item
 	 */
 	public FibonacciHeapItem<T> insert(T item, double key) {
-		// contruct a new container for the passed item
-		FibonacciHeapItem<T> newItem = new FibonacciHeapItem<T>(item, key);
+		FibonacciHeapItem<T> newItem;
+		TreeNode<T> newNode;
+		
+		if (pool != null && numberOfPooledItems < pool.length) {
+			// reuse the next preallocated container and its node
+			newItem = pool[numberOfPooledItems++];
+			newItem.item = item;
+			newItem.key = key;
+			
+			newNode = newItem.containingNode;
+			newNode.reset();
+		} else {
+			// contruct a new container for the passed item
+			newItem = new FibonacciHeapItem<T>(item, key);
+			newNode = new TreeNode<T>(newItem);
+		}
 		
-		// create a new heap consisting of one node containing the passed item
-		FibonacciHeap<T> newHeap = new FibonacciHeap<T>();
-		newHeap.minimumNode = new TreeNode<T>(newItem);
-		newHeap.size = 1;
+		// add the node containing the passed item to the list of roots
+		if (isEmpty()) {
+			minimumNode = newNode;
+		} else {
+			minimumNode.rightSibling.leftSibling = newNode;
+			newNode.rightSibling = minimumNode.rightSibling;
+			
+			minimumNode.rightSibling = newNode;
+			newNode.leftSibling = minimumNode;
+			
+			// set the minimum node of the resulting heap
+			if (minimumNode.item.key > key) {
+				minimumNode = newNode;
+			}
+		}
 		
-		// meld this heap and the new one
-		meld(newHeap);
+		size++;
 		
 		return newItem;
 	}
@@ -533,6 +610,19 @@ public class FibonacciHeap<T> implements
 		}
 		
 		
+		/**
+		 * Resets this node to a root without any siblings or children, allowing
+		 * it to hold another item of the same container.
+		 */
+		public void reset() {
+			parent = null;
+			someChild = null;
+			leftSibling = this;
+			rightSibling = this;
+			rank = 0;
+			marked = false;
+		}
+		
 		/**
 		 * Adds to passed heap-ordered tree node to the list of this node's
 		 * children, increasing the rank of this node.
@@ -0,0 +1,97 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue specialized to a universe of the elements
+ * <code>0, ..., n - 1</code> with integer keys. Elements are identified by
+ * their indices instead of containers, so no objects are allocated by any
+ * operation, and each element can be contained at most once.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @see PriorityQueue
+ */
+public interface IntPriorityQueue {
+	/**
+	 * Gets the number of elements this priority queue is defined on, which is
+	 * the maximum number of elements it can hold.
+	 * 
+	 * @return
+	 * 		the number of elements this priority queue is defined on
+	 */
+	int getNumberOfElements();
+	
+	/**
+	 * Checks whether this priority queue is empty, or not.
+	 * 
+	 * @return
+	 * 		<code>true</code>, if this priority queue is empty, and
+	 * 		<code>false</code> otherwise
+	 */
+	boolean isEmpty();
+	
+	/**
+	 * Checks whether the passed element is contained in this priority queue.
+	 * 
+	 * @param v
+	 * 		the element to check
+	 * @return
+	 * 		<code>true</code>, if the passed element is contained in this
+	 * 		priority queue, and <code>false</code> otherwise
+	 */
+	boolean contains(int v);
+	
+	/**
+	 * Inserts the passed element, which must not be contained in this
+	 * priority queue yet, with the specified non-negative key.
+	 * 
+	 * @param v
+	 * 		the element to insert
+	 * @param key
+	 * 		the key of the element to insert
+	 */
+	void insert(int v, long key);
+	
+	/**
+	 * Gets the key of the passed element, which must be contained in this
+	 * priority queue.
+	 * 
+	 * @param v
+	 * 		the element to get the key of
+	 * @return
+	 * 		the key of the passed element
+	 */
+	long getKey(int v);
+	
+	/**
+	 * Decreases the key of the passed element, which must be contained in
+	 * this priority queue, to the specified key.
+	 * 
+	 * @param v
+	 * 		the element to decrease the key of
+	 * @param newKey
+	 * 		the new key of the element, which must not be greater than its
+	 * 		current one
+	 */
+	void decreaseKeyTo(int v, long newKey);
+	
+	/**
+	 * Deletes the element with the minimum key from this priority queue and
+	 * returns it.
+	 * 
+	 * @return
+	 * 		the element with the minimum key in this priority queue
+	 * @throws NoSuchElementException
+	 * 		if this priority queue is empty
+	 */
+	int deleteMin() throws NoSuchElementException;
+	
+	/**
+	 * Removes all elements from this priority queue, allowing it to be reused
+	 * without allocating a new one.
+	 */
+	void clear();
+}
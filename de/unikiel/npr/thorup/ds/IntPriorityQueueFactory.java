@@ -0,0 +1,24 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A factory for creating new, empty integer priority queues, used whenever
+ * an algorithm needs more than one of them, e.g. one per thread.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @see PriorityQueueFactory
+ */
+public interface IntPriorityQueueFactory {
+	/**
+	 * Creates a new, empty integer priority queue for the elements
+	 * <code>0, ..., n - 1</code>.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new priority queue
+	 * @return
+	 * 		the new priority queue
+	 */
+	IntPriorityQueue createPriorityQueue(int n);
+}
@@ -0,0 +1,83 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A split-findmin structure specialized to a universe of the elements
+ * <code>0, ..., n - 1</code> with integer costs. Elements are identified by
+ * their indices instead of containers, and infinite costs are represented by
+ * {@link Integer#MAX_VALUE}. Initially, all elements form a single list,
+ * ordered by their indices, and have infinite costs. This structure allows
+ * two types of operations:
+ * 
+ * <ol>
+ * 		<li><code>decreaseCost(x, newCost)</code> decreases the cost of an
+ * 			element and updates the minimum of the list containing that element,
+ * 			if necessary</li>
+ * 		<li><code>split(x)</code> replaces the list containing an element
+ * 			by the list of all elements up to and including that element,
+ * 			and the list of all remaining elements. The costs of the two new
+ * 			lists are set to their proper values.</li>
+ * </ol>
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @see SplitFindminStructure
+ */
+public interface IntSplitFindminStructure {
+	/**
+	 * Gets the number of elements of this split-findmin structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this split-findmin structure
+	 */
+	int getNumberOfElements();
+	
+	/**
+	 * Resets this split-findmin structure to its initial state, joining all
+	 * elements to a single list again and setting their costs to infinity.
+	 */
+	void reset();
+	
+	/**
+	 * Decreases the cost of the passed element and updates the minimum of the
+	 * list containing it, if necessary. Costs greater than the current cost
+	 * of the element are ignored.
+	 * 
+	 * @param x
+	 * 		the index of the element to decrease the cost of
+	 * @param newCost
+	 * 		the new cost of the element
+	 */
+	void decreaseCost(int x, int newCost);
+	
+	/**
+	 * Replaces the list containing the passed element by the list of all
+	 * elements up to and including it, and the list of all remaining elements.
+	 * The costs of the two new lists are set to their proper values.
+	 * 
+	 * @param x
+	 * 		the index of the element to split the list after
+	 */
+	void split(int x);
+	
+	/**
+	 * Returns the cost of the passed element.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the cost of
+	 * @return
+	 * 		the cost of the passed element
+	 */
+	int getCost(int x);
+	
+	/**
+	 * Returns the cost of the list containing the passed element.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the list cost of
+	 * @return
+	 * 		the cost of the list containing the passed element
+	 */
+	int getListCost(int x);
+}
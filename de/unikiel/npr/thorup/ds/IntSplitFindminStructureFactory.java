@@ -0,0 +1,26 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A factory for creating new integer split-findmin structures in their
+ * initial state, used whenever an algorithm needs more than one of them,
+ * e.g. one per thread.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @see SplitFindminStructureFactory
+ */
+public interface IntSplitFindminStructureFactory {
+	/**
+	 * Creates a new integer split-findmin structure with the specified number
+	 * of elements in its initial state, all of them having infinite costs and
+	 * forming a single list.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new split-findmin structure
+	 * @return
+	 * 		the new split-findmin structure
+	 */
+	IntSplitFindminStructure createSplitFindminStructure(int n);
+}
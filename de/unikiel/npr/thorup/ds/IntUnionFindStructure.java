@@ -0,0 +1,56 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A union-find structure specialized to a universe of the elements
+ * <code>0, ..., n - 1</code>, which are identified by their indices instead
+ * of containers. Initially, every element forms a singleton set. This
+ * structure supports two types of operations:
+ * 
+ * <ol>
+ * 		<li><code>find(v)</code> computes the name of the (unique) set
+ * 			containing the element v</li>
+ * 		<li><code>union(v, w)</code> combines the sets containing the elements v
+ * 			and w into a new set</li>
+ * </ol>
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @see UnionFindStructure
+ */
+public interface IntUnionFindStructure {
+	/**
+	 * Gets the number of elements of this union-find structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this union-find structure
+	 */
+	int getNumberOfElements();
+	
+	/**
+	 * Returns the canonical element of the set containing <code>v</code>.
+	 * The question "Are u and v in the same set?" can be reduced to
+	 * <code>find(u) == find(v)</code>.
+	 * 
+	 * @param v
+	 * 		the element to get the canonical element of
+	 * @return
+	 * 		the canonical element of the set containing <code>v</code>
+	 */
+	int find(int v);
+	
+	/**
+	 * Merges the sets containing the elements <code>u</code> and
+	 * <code>v</code>, if they are different.
+	 * 
+	 * @param u
+	 * 		an element in the first set to merge
+	 * @param v
+	 * 		an element in the second set to merge
+	 * @return
+	 * 		<code>true</code>, if two different sets have been merged, and
+	 * 		<code>false</code> otherwise
+	 */
+	boolean union(int u, int v);
+}
@@ -0,0 +1,501 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of a pairing heap by <i>Michael L. Fredman</i>,
+ * <i>Robert Sedgewick</i>, <i>Daniel D. Sleator</i> and
+ * <i>Robert Endre Tarjan</i> holding the vertices <code>0, ..., n - 1</code>
+ * of a graph.<br>
+ * <br>
+ * Provides insertion, finding the minimum and melding in <i>O(1)</i>, and
+ * deleting the minimum in <i>O(log n)</i> amortized time. Decreasing a key
+ * cuts the subtree of the item and links it with the root, just like
+ * inserting it, without any cascading cuts or ranks. The minimum is deleted
+ * by linking its children in pairs from left to right, and then linking the
+ * resulting trees from right to left.<br>
+ * <br>
+ * The nodes of all vertices, including their boxed vertex indices, are
+ * allocated once when constructing the heap, and the node of vertex
+ * <code>v</code> is reused whenever <code>v</code> is inserted, so no
+ * objects are created by any operation of this heap.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class PairingHeap implements
+	PriorityQueue<Integer, PairingHeap.PairingHeapNode> {
+	
+	/**
+	 * The nodes of all vertices, indexed by the vertices, or
+	 * <code>null</code> if this heap has been melded into another one.
+	 */
+	private PairingHeapNode[] nodes;
+	
+	/**
+	 * The root containing the item with the minimum key in this heap.
+	 */
+	private PairingHeapNode root;
+	
+	/**
+	 * The number of elements of this heap.
+	 */
+	private int size;
+	
+	
+	/**
+	 * Constructs a new, empty pairing heap for the vertices
+	 * <code>0, ..., n - 1</code>, allocating the nodes of all of them.
+	 * 
+	 * @param n
+	 * 		the number of vertices of the new heap
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public PairingHeap(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		nodes = new PairingHeapNode[n];
+		
+		for (int v = 0; v < n; v++) {
+			nodes[v] = new PairingHeapNode(v);
+		}
+	}
+	
+	
+	/**
+	 * Checks whether this heap is empty, or not.
+	 * 
+	 * @return
+	 * 		<code>true</code>, if this heap is empty, and <code>false</code>
+	 * 		otherwise
+	 */
+	public boolean isEmpty() {
+		return (root == null);
+	}
+	
+	/**
+	 * Clears this pairing heap, removing all items in time linear in their
+	 * number. The nodes of all vertices are kept for being reused.
+	 */
+	public void clear() {
+		/*
+		 * detach all nodes from each other, using the pointers to the next
+		 * siblings as a stack of nodes that still have to be detached
+		 */
+		PairingHeapNode pending = root;
+		
+		while (pending != null) {
+			PairingHeapNode node = pending;
+			pending = node.next;
+			
+			// push the children of the node onto the stack
+			if (node.child != null) {
+				PairingHeapNode lastChild = node.child;
+				
+				while (lastChild.next != null) {
+					lastChild = lastChild.next;
+				}
+				
+				lastChild.next = pending;
+				pending = node.child;
+			}
+			
+			node.child = null;
+			node.previous = null;
+			node.next = null;
+		}
+		
+		root = null;
+		size = 0;
+	}
+	
+	/**
+	 * Checks whether the passed vertex is contained in this heap, or not.
+	 * 
+	 * @param item
+	 * 		the vertex to check, between <code>0</code> and
+	 * 		<code>n - 1</code>
+	 * @return
+	 * 		<code>true</code>, if the vertex is contained in this heap, and
+	 * 		<code>false</code> otherwise
+	 */
+	public boolean contains(int item) {
+		PairingHeapNode node = nodes[item];
+		
+		// every node except for the root has a parent or a left sibling
+		return (node == root || node.previous != null);
+	}
+	
+	/**
+	 * Inserts the passed vertex, which must not be contained in this heap
+	 * yet, with the specified key into this heap in <i>O(1)</i>, reusing the
+	 * node of the vertex.
+	 * 
+	 * @param item
+	 * 		the vertex to insert, between <code>0</code> and
+	 * 		<code>n - 1</code>
+	 * @param key
+	 * 		the key of the vertex to insert
+	 * @return
+	 * 		the node that holds the passed vertex
+	 * @throws IllegalArgumentException
+	 * 		if the passed vertex is not between <code>0</code> and
+	 * 		<code>n - 1</code>
+	 * @throws IllegalArgumentException
+	 * 		if the passed vertex is already contained in this heap
+	 * @throws IllegalStateException
+	 * 		if this heap has been melded into another one
+	 */
+	public PairingHeapNode insert(Integer item, double key)
+		throws IllegalArgumentException, IllegalStateException {
+		
+		if (nodes == null) {
+			String errorMessage = "This heap has been melded into another " +
+					"one and can't be used anymore.";
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		// check the passed vertex index
+		if (item < 0 || item >= nodes.length) {
+			String errorMessage =
+				"Allowed vertex indices are 0.." + (nodes.length - 1) + ".";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (contains(item)) {
+			String errorMessage =
+				"The vertex " + item + " is already contained in this heap.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		PairingHeapNode node = nodes[item];
+		
+		node.key = key;
+		node.child = null;
+		node.previous = null;
+		node.next = null;
+		
+		root = (root == null) ? node : link(root, node);
+		size++;
+		
+		return node;
+	}
+	
+	/**
+	 * Returns the item with the minimum key in this heap.
+	 * 
+	 * @return
+	 * 		the item with the minimum key in this heap
+	 * @throws NoSuchElementException
+	 * 		if this heap is empty
+	 */
+	public PairingHeapNode findMin() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This heap is empty.");
+		}
+		
+		return root;
+	}
+	
+	/**
+	 * Deletes the item with the minimum key in this heap and returns it, in
+	 * <i>O(log n)</i> amortized time.
+	 * 
+	 * @return
+	 * 		the item with the minimum key in this heap
+	 * @throws NoSuchElementException
+	 * 		if this heap is empty
+	 */
+	public PairingHeapNode deleteMin() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This heap is empty.");
+		}
+		
+		PairingHeapNode minimumNode = root;
+		
+		root = combineSiblings(minimumNode.child);
+		minimumNode.child = null;
+		size--;
+		
+		return minimumNode;
+	}
+	
+	/**
+	 * Takes the union of the passed heap and this one in <i>O(1)</i>.
+	 * Assumes that both heaps are item-disjoint.<br>
+	 * <br>
+	 * <i>This operation destroys the passed heap:</i> its nodes now belong
+	 * to this heap, so nothing can be inserted into the passed heap anymore.
+	 * 
+	 * @param other
+	 * 		the other heap to take the union of
+	 * @throws IllegalArgumentException
+	 * 		if the passed heap is this one
+	 */
+	public void meld(PairingHeap other) throws IllegalArgumentException {
+		if (other == this) {
+			String errorMessage = "A heap can't be melded with itself.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// if the other heap is empty, there is nothing to link
+		if (!other.isEmpty()) {
+			root = isEmpty() ? other.root : link(root, other.root);
+			size += other.size;
+		}
+		
+		// destroy the other heap
+		other.nodes = null;
+		other.root = null;
+		other.size = 0;
+	}
+	
+	/**
+	 * Decreases the key of the specified item in this heap to the passed
+	 * non-negative real number in <i>O(1)</i>, cutting the subtree of the
+	 * item and linking it with the root.
+	 * 
+	 * @param item
+	 * 		the item to decrease the key of
+	 * @param newKey
+	 * 		the item's new key
+	 * @throws IllegalArgumentException
+	 * 		if the resulting key would be greater than the current one
+	 * @throws NoSuchElementException
+	 * 		if this heap is empty
+	 */
+	public void decreaseKeyTo(PairingHeapNode item, double newKey)
+		throws IllegalArgumentException, NoSuchElementException {
+		
+		if (newKey > item.key) {
+			String errorMessage = "The new key must not be greater than the " +
+					"current one.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (isEmpty()) {
+			throw new NoSuchElementException("This heap is empty.");
+		}
+		
+		item.key = newKey;
+		
+		if (item != root) {
+			// cut the subtree of the item from its parent or left sibling
+			if (item.previous.child == item) {
+				item.previous.child = item.next;
+			} else {
+				item.previous.next = item.next;
+			}
+			
+			if (item.next != null) {
+				item.next.previous = item.previous;
+			}
+			
+			item.previous = null;
+			item.next = null;
+			
+			// link it with the root
+			root = link(root, item);
+		}
+	}
+	
+	/**
+	 * Returns the number of elements of this heap.
+	 * 
+	 * @return
+	 * 		the number of elements of this heap
+	 */
+	public int getSize() {
+		return size;
+	}
+	
+	
+	/**
+	 * Combines the heap-ordered trees represented by the two passed roots,
+	 * making the one with the greater key the leftmost child of the other.
+	 * 
+	 * @param first
+	 * 		the root of the first tree to combine
+	 * @param second
+	 * 		the root of the second tree to combine
+	 * @return
+	 * 		the root of the resulting heap-ordered tree
+	 */
+	private static PairingHeapNode link(PairingHeapNode first,
+			PairingHeapNode second) {
+		
+		if (second.key < first.key) {
+			PairingHeapNode temp = first;
+			first = second;
+			second = temp;
+		}
+		
+		second.previous = first;
+		second.next = first.child;
+		
+		if (first.child != null) {
+			first.child.previous = second;
+		}
+		
+		first.child = second;
+		
+		return first;
+	}
+	
+	/**
+	 * Combines the list of siblings starting with the passed node to a single
+	 * heap-ordered tree by linking them in pairs from left to right, and then
+	 * linking the resulting trees from right to left.
+	 * 
+	 * @param first
+	 * 		the leftmost sibling to combine, or <code>null</code>
+	 * @return
+	 * 		the root of the resulting heap-ordered tree, or <code>null</code>
+	 * 		if there are no siblings
+	 */
+	private static PairingHeapNode combineSiblings(PairingHeapNode first) {
+		if (first == null) {
+			return null;
+		}
+		
+		/*
+		 * link pairs of siblings from left to right, pushing the resulting
+		 * trees onto a stack using the pointers to the next siblings
+		 */
+		PairingHeapNode pairs = null;
+		PairingHeapNode current = first;
+		
+		while (current != null) {
+			PairingHeapNode other = current.next;
+			
+			if (other == null) {
+				current.next = pairs;
+				pairs = current;
+				break;
+			}
+			
+			PairingHeapNode remaining = other.next;
+			
+			current = link(current, other);
+			current.next = pairs;
+			pairs = current;
+			
+			current = remaining;
+		}
+		
+		// link the resulting trees from right to left
+		PairingHeapNode result = pairs;
+		pairs = pairs.next;
+		
+		while (pairs != null) {
+			PairingHeapNode remaining = pairs.next;
+			
+			result = link(result, pairs);
+			pairs = remaining;
+		}
+		
+		result.previous = null;
+		result.next = null;
+		
+		return result;
+	}
+	
+	
+	/**
+	 * A node of a pairing heap holding a vertex and its key. Provides pointers
+	 * to its leftmost child, to its right sibling and to its left sibling, or
+	 * its parent if it is the leftmost child.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 */
+	public static class PairingHeapNode implements PriorityQueueItem<Integer> {
+		/**
+		 * The vertex held by this node.
+		 */
+		private Integer item;
+		
+		/**
+		 * The key of the vertex which is used for comparing it to other heap
+		 * items for order.
+		 */
+		private double key;
+		
+		/**
+		 * The leftmost child of this node.
+		 */
+		private PairingHeapNode child;
+		
+		/**
+		 * The left sibling of this node, or its parent if this node is the
+		 * leftmost child.
+		 */
+		private PairingHeapNode previous;
+		
+		/**
+		 * The right sibling of this node.
+		 */
+		private PairingHeapNode next;
+		
+		
+		/**
+		 * Constructs a new pairing heap node holding the passed vertex.
+		 * 
+		 * @param item
+		 * 		the vertex held by the new node
+		 */
+		private PairingHeapNode(int item) {
+			this.item = item;
+		}
+		
+		
+		/**
+		 * Returns the vertex held by this node.
+		 * 
+		 * @return
+		 * 		the vertex held by this node
+		 */
+		public Integer getItem() {
+			return item;
+		}
+		
+		/**
+		 * Returns the key of the vertex which is used for comparing it to
+		 * other heap items for order.
+		 * 
+		 * @return
+		 * 		the key of the vertex which is used for comparing it to other
+		 * 		heap items for order
+		 */
+		public double getKey() {
+			return key;
+		}
+		
+		/**
+		 * Returns the <code>String</code> representation of the vertex held
+		 * by this node.
+		 * 
+		 * @return
+		 * 		a <code>String</code> representation of the vertex held by
+		 * 		this node
+		 */
+		public String toString() {
+			return item.toString();
+		}
+	}
+}
@@ -25,6 +25,11 @@ public interface PriorityQueue<T, U extends PriorityQueueItem<T>> {
 	 */
 	boolean isEmpty();
 	
+	/**
+	 * Removes all items from this heap, allowing it to be reused.
+	 */
+	public void clear();
+	
 	/**
 	 * Inserts the passed item with the specified key into this heap.
 	 * 
@@ -0,0 +1,24 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A factory for creating new, empty priority queues, used whenever an
+ * algorithm needs more than one priority queue of the same type, e.g. one
+ * per thread.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public interface PriorityQueueFactory {
+	/**
+	 * Creates a new, empty priority queue for the specified maximum number of
+	 * vertices.
+	 * 
+	 * @param n
+	 * 		the maximum number of vertices of the new priority queue
+	 * @return
+	 * 		the new priority queue
+	 */
+	PriorityQueue<Integer, ?> createPriorityQueue(int n);
+}
@@ -0,0 +1,321 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of a monotone priority queue as a radix heap, which
+ * requires that no key less than the one of the most recently deleted
+ * minimum is ever inserted while the heap is not empty, as is the case for
+ * <i>Dijkstra</i>'s algorithm.<br>
+ * <br>
+ * The elements are held by 65 buckets: Bucket 0 holds all elements whose
+ * keys equal the most recently deleted minimum, and bucket <i>i</i> holds all
+ * elements whose keys differ from it first in bit <i>i - 1</i>, counted from
+ * the least significant one, just like in {@link
+ * de.unikiel.npr.thorup.algs.Thorup#msb(int)}. Whenever bucket 0 runs empty,
+ * the first non-empty bucket is emptied by redistributing its elements
+ * relative to its new minimum, which moves each of them to a lower bucket.
+ * Thus each element is moved at most 64 times, yielding
+ * <i>O(log C)</i> amortized time per element for a maximum key <i>C</i>.
+ * All buckets are intrusive doubly-linked lists on primitive arrays.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class RadixHeap implements IntPriorityQueue {
+	/**
+	 * The number of buckets of every radix heap.
+	 */
+	public static final int NUMBER_OF_BUCKETS = 65;
+	
+	/**
+	 * The keys of all elements of this heap.
+	 */
+	private long[] keys;
+	
+	/**
+	 * The buckets containing the elements of this heap, or <code>-1</code> for
+	 * elements which are not contained.
+	 */
+	private int[] bucketOf;
+	
+	/**
+	 * The successors of all elements in their buckets, or <code>-1</code> for
+	 * the last elements.
+	 */
+	private int[] next;
+	
+	/**
+	 * The predecessors of all elements in their buckets, or <code>-1</code>
+	 * for the first elements.
+	 */
+	private int[] previous;
+	
+	/**
+	 * The first elements of all buckets, or <code>-1</code> for empty
+	 * buckets.
+	 */
+	private int[] first;
+	
+	/**
+	 * The key of the most recently deleted minimum.
+	 */
+	private long last;
+	
+	/**
+	 * The number of elements contained in this heap.
+	 */
+	private int size;
+	
+	
+	/**
+	 * Constructs a new, empty radix heap for the elements
+	 * <code>0, ..., n - 1</code>.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new heap
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public RadixHeap(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		keys = new long[n];
+		bucketOf = new int[n];
+		next = new int[n];
+		previous = new int[n];
+		first = new int[NUMBER_OF_BUCKETS];
+		
+		for (int v = 0; v < n; v++) {
+			bucketOf[v] = -1;
+		}
+		
+		for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			first[i] = -1;
+		}
+	}
+	
+	
+	/**
+	 * Gets the number of elements this heap is defined on, which is the
+	 * maximum number of elements it can hold.
+	 * 
+	 * @return
+	 * 		the number of elements this heap is defined on
+	 */
+	public int getNumberOfElements() {
+		return keys.length;
+	}
+	
+	/**
+	 * Checks whether this heap is empty, or not.
+	 * 
+	 * @return
+	 * 		<code>true</code>, if this heap is empty, and <code>false</code>
+	 * 		otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Checks whether the passed element is contained in this heap.
+	 * 
+	 * @param v
+	 * 		the element to check
+	 * @return
+	 * 		<code>true</code>, if the passed element is contained in this
+	 * 		heap, and <code>false</code> otherwise
+	 */
+	public boolean contains(int v) {
+		return bucketOf[v] >= 0;
+	}
+	
+	/**
+	 * Inserts the passed element, which must not be contained in this heap
+	 * yet, with the specified key in <i>O(1)</i>. Unless this heap is empty,
+	 * the key must not be less than the one of the most recently deleted
+	 * minimum.
+	 * 
+	 * @param v
+	 * 		the element to insert
+	 * @param key
+	 * 		the key of the element to insert
+	 */
+	public void insert(int v, long key) {
+		keys[v] = key;
+		add(v, getBucket(key));
+		size++;
+	}
+	
+	/**
+	 * Gets the key of the passed element, which must be contained in this
+	 * heap.
+	 * 
+	 * @param v
+	 * 		the element to get the key of
+	 * @return
+	 * 		the key of the passed element
+	 */
+	public long getKey(int v) {
+		return keys[v];
+	}
+	
+	/**
+	 * Decreases the key of the passed element, which must be contained in
+	 * this heap, to the specified key in <i>O(1)</i>. The key must not be
+	 * less than the one of the most recently deleted minimum.
+	 * 
+	 * @param v
+	 * 		the element to decrease the key of
+	 * @param newKey
+	 * 		the new key of the element, which must not be greater than its
+	 * 		current one
+	 */
+	public void decreaseKeyTo(int v, long newKey) {
+		keys[v] = newKey;
+		
+		int bucket = getBucket(newKey);
+		
+		if (bucket != bucketOf[v]) {
+			remove(v);
+			add(v, bucket);
+		}
+	}
+	
+	/**
+	 * Deletes the element with the minimum key from this heap and returns it,
+	 * in <i>O(log C)</i> amortized time.
+	 * 
+	 * @return
+	 * 		the element with the minimum key in this heap
+	 * @throws NoSuchElementException
+	 * 		if this heap is empty
+	 */
+	public int deleteMin() throws NoSuchElementException {
+		if (size == 0) {
+			throw new NoSuchElementException("This heap is empty.");
+		}
+		
+		if (first[0] < 0) {
+			// find the first non-empty bucket and its minimum
+			int i = 1;
+			
+			while (first[i] < 0) {
+				i++;
+			}
+			
+			long min = Long.MAX_VALUE;
+			
+			for (int v = first[i]; v >= 0; v = next[v]) {
+				if (keys[v] < min) {
+					min = keys[v];
+				}
+			}
+			
+			// redistribute its elements relative to the new minimum
+			last = min;
+			
+			int v = first[i];
+			first[i] = -1;
+			
+			while (v >= 0) {
+				int w = next[v];
+				add(v, getBucket(keys[v]));
+				v = w;
+			}
+		}
+		
+		int min = first[0];
+		
+		remove(min);
+		bucketOf[min] = -1;
+		size--;
+		
+		// allow any keys again as soon as this heap is empty
+		if (size == 0) {
+			last = 0;
+		}
+		
+		return min;
+	}
+	
+	/**
+	 * Removes all elements from this heap in <i>O(size)</i>, allowing it to
+	 * be reused without allocating a new one.
+	 */
+	public void clear() {
+		for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			for (int v = first[i]; v >= 0; v = next[v]) {
+				bucketOf[v] = -1;
+			}
+			
+			first[i] = -1;
+		}
+		
+		last = 0;
+		size = 0;
+	}
+	
+	
+	/**
+	 * Gets the index of the bucket holding elements with the passed key,
+	 * which is one more than the index of the most significant bit the key
+	 * differs in from the most recently deleted minimum.
+	 * 
+	 * @param key
+	 * 		the key to get the bucket of
+	 * @return
+	 * 		the index of the bucket holding elements with the passed key
+	 */
+	private int getBucket(long key) {
+		return 64 - Long.numberOfLeadingZeros(key ^ last);
+	}
+	
+	/**
+	 * Adds the passed element to the front of the specified bucket.
+	 * 
+	 * @param v
+	 * 		the element to add
+	 * @param bucket
+	 * 		the bucket to add the element to
+	 */
+	private void add(int v, int bucket) {
+		int w = first[bucket];
+		
+		next[v] = w;
+		previous[v] = -1;
+		
+		if (w >= 0) {
+			previous[w] = v;
+		}
+		
+		first[bucket] = v;
+		bucketOf[v] = bucket;
+	}
+	
+	/**
+	 * Removes the passed element from its bucket.
+	 * 
+	 * @param v
+	 * 		the element to remove
+	 */
+	private void remove(int v) {
+		if (previous[v] >= 0) {
+			next[previous[v]] = next[v];
+		} else {
+			first[bucketOf[v]] = next[v];
+		}
+		
+		if (next[v] >= 0) {
+			previous[next[v]] = previous[v];
+		}
+	}
+}
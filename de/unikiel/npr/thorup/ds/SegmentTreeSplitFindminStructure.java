@@ -0,0 +1,215 @@
+package de.unikiel.npr.thorup.ds;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of an integer split-findmin structure using an array
+ * segment tree with split markers.<br>
+ * <br>
+ * Every node of the tree stores the minimum cost of all elements below it,
+ * and whether any of these elements is the last one of its list. The cost of
+ * a list is found by walking up from an element and collecting the minima of
+ * all siblings up to the nearest split markers on both sides. Thus all
+ * operations take <i>O(log n)</i> time, with small constant factors and
+ * without allocating any objects.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class SegmentTreeSplitFindminStructure
+	implements IntSplitFindminStructure {
+	
+	/**
+	 * The number of elements of this structure.
+	 */
+	private int n;
+	
+	/**
+	 * The number of leaves of the segment tree, which is the smallest power
+	 * of two not less than the number of elements.
+	 */
+	private int size;
+	
+	/**
+	 * The minimum costs of all nodes of the segment tree. The root has the
+	 * index <code>1</code>, the children of node <code>v</code> have the
+	 * indices <code>2v</code> and <code>2v + 1</code>, and the leaf of
+	 * element <code>x</code> has the index <code>size + x</code>.
+	 */
+	private int[] min;
+	
+	/**
+	 * Whether any element below a node of the segment tree is the last
+	 * element of its list.
+	 */
+	private boolean[] marker;
+	
+	
+	/**
+	 * Constructs a new split-findmin structure with the specified number of
+	 * elements, all of them having infinite costs and forming a single list.
+	 * 
+	 * @param n
+	 * 		the number of elements of the new split-findmin structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public SegmentTreeSplitFindminStructure(int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.n = n;
+		
+		size = 1;
+		
+		while (size < n) {
+			size <<= 1;
+		}
+		
+		min = new int[2 * size];
+		marker = new boolean[2 * size];
+		
+		reset();
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this split-findmin structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this split-findmin structure
+	 */
+	public int getNumberOfElements() {
+		return n;
+	}
+	
+	/**
+	 * Resets this split-findmin structure to its initial state, joining all
+	 * elements to a single list again and setting their costs to infinity,
+	 * in <i>O(n)</i>.
+	 */
+	public void reset() {
+		Arrays.fill(min, Integer.MAX_VALUE);
+		Arrays.fill(marker, false);
+	}
+	
+	/**
+	 * Decreases the cost of the passed element and updates the minima of all
+	 * nodes above it, as long as they change, in <i>O(log n)</i>. Costs
+	 * greater than the current cost of the element are ignored.
+	 * 
+	 * @param x
+	 * 		the index of the element to decrease the cost of
+	 * @param newCost
+	 * 		the new cost of the element
+	 */
+	public void decreaseCost(int x, int newCost) {
+		for (int v = size + x; v > 0 && newCost < min[v]; v >>= 1) {
+			min[v] = newCost;
+		}
+	}
+	
+	/**
+	 * Replaces the list containing the passed element by the list of all
+	 * elements up to and including it, and the list of all remaining
+	 * elements, by marking the passed element as the last one of its list,
+	 * in <i>O(log n)</i>.
+	 * 
+	 * @param x
+	 * 		the index of the element to split the list after
+	 */
+	public void split(int x) {
+		for (int v = size + x; v > 0 && !marker[v]; v >>= 1) {
+			marker[v] = true;
+		}
+	}
+	
+	/**
+	 * Returns the cost of the passed element.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the cost of
+	 * @return
+	 * 		the cost of the passed element
+	 */
+	public int getCost(int x) {
+		return min[size + x];
+	}
+	
+	/**
+	 * Returns the cost of the list containing the passed element, in
+	 * <i>O(log n)</i>.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the list cost of
+	 * @return
+	 * 		the cost of the list containing the passed element
+	 */
+	public int getListCost(int x) {
+		int leaf = size + x;
+		int cost = min[leaf];
+		
+		// collect all elements after x up to the end of its list
+		if (!marker[leaf]) {
+			for (int v = leaf; v > 1; v >>= 1) {
+				if ((v & 1) == 1) {
+					continue;
+				}
+				
+				int w = v + 1;
+				
+				if (!marker[w]) {
+					cost = Math.min(cost, min[w]);
+					continue;
+				}
+				
+				// descend to the first marker, collecting all nodes before it
+				while (w < size) {
+					w <<= 1;
+					
+					if (!marker[w]) {
+						cost = Math.min(cost, min[w]);
+						w++;
+					}
+				}
+				
+				cost = Math.min(cost, min[w]);
+				break;
+			}
+		}
+		
+		// collect all elements before x down to the start of its list
+		for (int v = leaf; v > 1; v >>= 1) {
+			if ((v & 1) == 0) {
+				continue;
+			}
+			
+			int w = v - 1;
+			
+			if (!marker[w]) {
+				cost = Math.min(cost, min[w]);
+				continue;
+			}
+			
+			// descend to the last marker, collecting all nodes after it
+			while (w < size) {
+				w = 2 * w + 1;
+				
+				if (!marker[w]) {
+					cost = Math.min(cost, min[w]);
+					w--;
+				}
+			}
+			
+			break;
+		}
+		
+		return cost;
+	}
+}
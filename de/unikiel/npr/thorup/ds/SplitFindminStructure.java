@@ -43,4 +43,12 @@ public interface SplitFindminStructure<T> {
 	 * elements.
 	 */
 	void initialize();
+	
+	/**
+	 * Resets this split-findmin structure to its state right after
+	 * {@link #initialize()}, restoring the costs of all elements and joining
+	 * all lists that have been split since. All containers returned by
+	 * {@link #add(Object, double)} remain valid.
+	 */
+	void reset();
 }
@@ -0,0 +1,157 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * Adapts a generic split-findmin structure holding the indices of its
+ * elements to the {@link IntSplitFindminStructure} interface, converting all
+ * costs between doubles and integers.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class SplitFindminStructureAdapter implements IntSplitFindminStructure {
+	/**
+	 * The adapted split-findmin structure.
+	 */
+	private SplitFindminStructure<Integer> sf;
+	
+	/**
+	 * The containers of the adapted split-findmin structure holding the
+	 * elements of this structure.
+	 */
+	private SplitFindminStructureElement<Integer>[] containers;
+	
+	
+	/**
+	 * Constructs a new adapter for the passed empty split-findmin structure,
+	 * adding the specified number of elements with infinite costs to it and
+	 * initializing it.
+	 * 
+	 * @param sf
+	 * 		the empty split-findmin structure to adapt
+	 * @param n
+	 * 		the number of elements of the new split-findmin structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	public SplitFindminStructureAdapter(SplitFindminStructure<Integer> sf,
+			int n) {
+		
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		@SuppressWarnings("unchecked")
+		SplitFindminStructureElement<Integer>[] elements =
+			(SplitFindminStructureElement<Integer>[])
+				new SplitFindminStructureElement<?>[n];
+		containers = elements;
+		
+		reset(sf);
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this split-findmin structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this split-findmin structure
+	 */
+	public int getNumberOfElements() {
+		return containers.length;
+	}
+	
+	/**
+	 * Resets the adapted split-findmin structure to its initial state,
+	 * joining all elements to a single list again and setting their costs to
+	 * infinity.
+	 */
+	public void reset() {
+		sf.reset();
+	}
+	
+	/**
+	 * Makes this adapter use the passed empty split-findmin structure,
+	 * adding all elements with infinite costs to it and initializing it.
+	 * 
+	 * @param sf
+	 * 		the empty split-findmin structure to adapt
+	 */
+	public void reset(SplitFindminStructure<Integer> sf) {
+		this.sf = sf;
+		
+		for (int i = 0; i < containers.length; i++) {
+			containers[i] = sf.add(i, Double.POSITIVE_INFINITY);
+		}
+		
+		sf.initialize();
+	}
+	
+	/**
+	 * Decreases the cost of the passed element and updates the minimum of the
+	 * list containing it, if necessary.
+	 * 
+	 * @param x
+	 * 		the index of the element to decrease the cost of
+	 * @param newCost
+	 * 		the new cost of the element
+	 */
+	public void decreaseCost(int x, int newCost) {
+		containers[x].decreaseCost(newCost);
+	}
+	
+	/**
+	 * Replaces the list containing the passed element by the list of all
+	 * elements up to and including it, and the list of all remaining elements.
+	 * 
+	 * @param x
+	 * 		the index of the element to split the list after
+	 */
+	public void split(int x) {
+		containers[x].split();
+	}
+	
+	/**
+	 * Returns the cost of the passed element, or {@link Integer#MAX_VALUE} if
+	 * it is infinite.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the cost of
+	 * @return
+	 * 		the cost of the passed element
+	 */
+	public int getCost(int x) {
+		return toInt(containers[x].getCost());
+	}
+	
+	/**
+	 * Returns the cost of the list containing the passed element, or
+	 * {@link Integer#MAX_VALUE} if it is infinite.
+	 * 
+	 * @param x
+	 * 		the index of the element to get the list cost of
+	 * @return
+	 * 		the cost of the list containing the passed element
+	 */
+	public int getListCost(int x) {
+		return toInt(containers[x].getListCost());
+	}
+	
+	
+	/**
+	 * Converts the passed cost of the adapted split-findmin structure to an
+	 * integer cost, mapping infinity to {@link Integer#MAX_VALUE}.
+	 * 
+	 * @param cost
+	 * 		the cost to convert
+	 * @return
+	 * 		the converted cost
+	 */
+	private static int toInt(double cost) {
+		return Double.isInfinite(cost) ? Integer.MAX_VALUE : (int)cost;
+	}
+}
@@ -0,0 +1,26 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * A factory for creating new, empty split-findmin structures, used whenever
+ * an algorithm needs more than one split-findmin structure of the same type,
+ * e.g. one per thread.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ * @param <T>
+ * 		the type of the elements held by the created split-findmin structures
+ */
+public interface SplitFindminStructureFactory<T> {
+	/**
+	 * Creates a new, empty split-findmin structure for the specified number
+	 * of elements.
+	 * 
+	 * @param n
+	 * 		the number of elements the new split-findmin structure will hold
+	 * @return
+	 * 		the new split-findmin structure
+	 */
+	SplitFindminStructure<T> createSplitFindminStructure(int n);
+}
@@ -1,5 +1,7 @@
 package de.unikiel.npr.thorup.ds;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -67,6 +69,13 @@ public class SplitFindminStructureGabow<T> implements SplitFindminStructure<T> {
 	private MyList.Container<SplitFindminStructureGabow<T>>
 		containingContainerSublists;
 	
+	/**
+	 * The snapshot of the initial state of this split-findmin structure,
+	 * taken by {@link #initialize()}, if this is no sublist, and
+	 * <code>null</code> otherwise.
+	 */
+	private Snapshot<T> snapshot;
+	
 	/**
 	 * Constructs a new split-findmin structure for processing a universe of
 	 * <i>n</i> elements. If the number of <i>decreasecosts m</i> is known in
@@ -91,7 +100,7 @@ public class SplitFindminStructureGabow<T> implements SplitFindminStructure<T> {
 	public SplitFindminStructureGabow(int n, int m) {
 		this();
 
-		ackermann = new AckermannTable(n);
+		ackermann = AckermannTable.getInstance(n);
 		i = ackermann.getInverse(m, n);
 	}
 	
@@ -160,6 +169,29 @@ public class SplitFindminStructureGabow<T> implements SplitFindminStructure<T> {
 	 */
 	public void initialize() {
 		initializeHead();
+		
+		snapshot = new Snapshot<T>(this);
+	}
+	
+	/**
+	 * Resets this split-findmin structure to its state right after
+	 * {@link #initialize()}, restoring the costs of all elements and
+	 * re-merging all lists that have been split since. This takes linear
+	 * time, but doesn't allocate any objects, and all containers returned by
+	 * {@link #add(Object, double)} remain valid.
+	 * 
+	 * @throws IllegalStateException
+	 * 		if this split-findmin structure has not been initialized yet
+	 */
+	public void reset() {
+		if (snapshot == null) {
+			String errorMessage = "The split-findmin structure must be " +
+					"initialized before it can be reset.";
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		snapshot.restore();
 	}
 	
 	/**
@@ -1487,7 +1519,7 @@ public class SplitFindminStructureGabow<T> implements SplitFindminStructure<T> {
 				if (containingList != null) {
 					return containingList.cost;
 				} else {
-					return superelement.cost;
+					return superelement.containingList.cost;
 				}
 			} else {
 				return superelement.containingSublist.getCost();
@@ -1600,6 +1632,490 @@ public class SplitFindminStructureGabow<T> implements SplitFindminStructure<T> {
 	}
 	
 	
+	/**
+	 * A snapshot of all mutable fields of all lists, superelements, elements
+	 * and list containers of one level of a split-findmin structure, taken
+	 * right after its initialization. The snapshot stores these fields in
+	 * parallel arrays, which allows restoring the initial state of the
+	 * structure in linear time without allocating any objects. The sublists
+	 * of all lists of this level are held by the snapshot of the next level.
+	 * 
+	 * @author
+	 * 		<a href="mailto:agent@local">agent</a>
+	 * @version
+	 * 		1.0, 10/18/26
+	 * @param <T>
+	 * 		the type of the items managed by the lists of this level
+	 */
+	private static class Snapshot<T> {
+		/**
+		 * All lists of this level the snapshot has been taken of.
+		 */
+		private SplitFindminStructureGabow<T>[] lists;
+		
+		/**
+		 * The initial costs of all lists.
+		 */
+		private double[] listCosts;
+		
+		/**
+		 * The initial elements of all lists.
+		 */
+		private MyList<Element<T>>[] listElements;
+		
+		/**
+		 * The initial left-overs of all lists.
+		 */
+		private MyList<Element<T>>[] listSingletonElements;
+		
+		/**
+		 * The initial singleton superelements of all lists.
+		 */
+		private MyList<Superelement<T>>[] listSingletonSuperelements;
+		
+		/**
+		 * The initial sublists of all lists.
+		 */
+		private MyList<SplitFindminStructureGabow<Superelement<T>>>[]
+			listSublists;
+		
+		/**
+		 * The initial lists containing all lists.
+		 */
+		private SplitFindminStructureGabow<?>[] listContainingLists;
+		
+		/**
+		 * The initial containers holding all lists.
+		 */
+		private MyList.Container<SplitFindminStructureGabow<T>>[]
+			listContainingContainers;
+		
+		/**
+		 * The snapshot of all internal lists of elements and left-overs.
+		 */
+		private ListSnapshot<Element<T>> elementLists;
+		
+		/**
+		 * The snapshot of all internal lists of singleton superelements.
+		 */
+		private ListSnapshot<Superelement<T>> superelementLists;
+		
+		/**
+		 * The snapshot of all internal lists of sublists.
+		 */
+		private ListSnapshot<SplitFindminStructureGabow<Superelement<T>>>
+			sublistLists;
+		
+		/**
+		 * All elements of all lists.
+		 */
+		private Element<T>[] elements;
+		
+		/**
+		 * The initial costs of all elements.
+		 */
+		private double[] elementCosts;
+		
+		/**
+		 * The initial superelements containing all elements.
+		 */
+		private Superelement<T>[] elementSuperelements;
+		
+		/**
+		 * The initial lists containing all elements.
+		 */
+		private SplitFindminStructureGabow<T>[] elementContainingLists;
+		
+		/**
+		 * The initial containers holding all elements in the lists of
+		 * elements.
+		 */
+		private MyList.Container<Element<T>>[] elementContainingContainers;
+		
+		/**
+		 * The initial containers holding all elements in the lists of
+		 * left-overs.
+		 */
+		private MyList.Container<Element<T>>[]
+			elementContainingContainersSingletonElements;
+		
+		/**
+		 * All superelements of all lists.
+		 */
+		private Superelement<T>[] superelements;
+		
+		/**
+		 * The initial costs of all superelements.
+		 */
+		private double[] superelementCosts;
+		
+		/**
+		 * The initial lists containing all superelements.
+		 */
+		private SplitFindminStructureGabow<T>[] superelementContainingLists;
+		
+		/**
+		 * The initial containers holding all superelements in the lists of
+		 * singleton superelements.
+		 */
+		private MyList.Container<Superelement<T>>[]
+			superelementContainingContainers;
+		
+		/**
+		 * The initial sublist elements holding all superelements.
+		 */
+		private Element<Superelement<T>>[] superelementElementsInSublist;
+		
+		/**
+		 * The initial sublists holding all superelements.
+		 */
+		private SplitFindminStructureGabow<Superelement<T>>[]
+			superelementContainingSublists;
+		
+		/**
+		 * The snapshot of all sublists of all lists of this level, or
+		 * <code>null</code> if there are none.
+		 */
+		private Snapshot<Superelement<T>> sublistSnapshot;
+		
+		
+		/**
+		 * Takes a snapshot of the passed initialized list and all of its
+		 * sublists.
+		 * 
+		 * @param list
+		 * 		the list to take the snapshot of
+		 */
+		public Snapshot(SplitFindminStructureGabow<T> list) {
+			this(singletonList(list));
+		}
+		
+		/**
+		 * Takes a snapshot of all passed initialized lists of the same level
+		 * and all of their sublists.
+		 * 
+		 * @param allLists
+		 * 		the lists to take the snapshot of
+		 */
+		private Snapshot(ArrayList<SplitFindminStructureGabow<T>> allLists) {
+			// collect all objects of the passed lists
+			ArrayList<MyList<Element<T>>> allElementLists =
+				new ArrayList<MyList<Element<T>>>();
+			ArrayList<MyList<Superelement<T>>> allSuperelementLists =
+				new ArrayList<MyList<Superelement<T>>>();
+			ArrayList<MyList<SplitFindminStructureGabow<Superelement<T>>>>
+				allSublistLists = new ArrayList
+					<MyList<SplitFindminStructureGabow<Superelement<T>>>>();
+			ArrayList<Element<T>> allElements = new ArrayList<Element<T>>();
+			ArrayList<Superelement<T>> allSuperelements =
+				new ArrayList<Superelement<T>>();
+			ArrayList<SplitFindminStructureGabow<Superelement<T>>> allSublists =
+				new ArrayList<SplitFindminStructureGabow<Superelement<T>>>();
+			
+			for (SplitFindminStructureGabow<T> list : allLists) {
+				allElementLists.add(list.elements);
+				allElementLists.add(list.singletonElements);
+				allSuperelementLists.add(list.singletonSuperelements);
+				allSublistLists.add(list.sublists);
+				
+				// collect all elements and their superelements
+				Superelement<T> previousSuperelement = null;
+				
+				for (Element<T> e : list.elements) {
+					allElements.add(e);
+					
+					if (e.superelement != null &&
+							e.superelement != previousSuperelement) {
+						allSuperelements.add(e.superelement);
+						previousSuperelement = e.superelement;
+					}
+				}
+				
+				// collect all sublists
+				for (SplitFindminStructureGabow<Superelement<T>> sublist :
+						list.sublists) {
+					
+					allSublists.add(sublist);
+				}
+			}
+			
+			// save the fields of all lists
+			lists = allLists.toArray(Snapshot.<SplitFindminStructureGabow<T>>
+				newArray(SplitFindminStructureGabow.class, allLists.size()));
+			listCosts = new double[lists.length];
+			listElements = newArray(MyList.class, lists.length);
+			listSingletonElements = newArray(MyList.class, lists.length);
+			listSingletonSuperelements = newArray(MyList.class, lists.length);
+			listSublists = newArray(MyList.class, lists.length);
+			listContainingLists =
+				new SplitFindminStructureGabow<?>[lists.length];
+			listContainingContainers =
+				newArray(MyList.Container.class, lists.length);
+			
+			for (int k = 0; k < lists.length; k++) {
+				SplitFindminStructureGabow<T> l = lists[k];
+				
+				listCosts[k] = l.cost;
+				listElements[k] = l.elements;
+				listSingletonElements[k] = l.singletonElements;
+				listSingletonSuperelements[k] = l.singletonSuperelements;
+				listSublists[k] = l.sublists;
+				listContainingLists[k] = l.containingList;
+				listContainingContainers[k] = l.containingContainerSublists;
+			}
+			
+			// save the fields of all internal lists and their containers
+			elementLists = new ListSnapshot<Element<T>>(allElementLists);
+			superelementLists =
+				new ListSnapshot<Superelement<T>>(allSuperelementLists);
+			sublistLists = new ListSnapshot
+				<SplitFindminStructureGabow<Superelement<T>>>(allSublistLists);
+			
+			// save the fields of all elements
+			elements = allElements.toArray(Snapshot.<Element<T>>
+				newArray(Element.class, allElements.size()));
+			elementCosts = new double[elements.length];
+			elementSuperelements =
+				newArray(Superelement.class, elements.length);
+			elementContainingLists =
+				newArray(SplitFindminStructureGabow.class, elements.length);
+			elementContainingContainers =
+				newArray(MyList.Container.class, elements.length);
+			elementContainingContainersSingletonElements =
+				newArray(MyList.Container.class, elements.length);
+			
+			for (int k = 0; k < elements.length; k++) {
+				Element<T> e = elements[k];
+				
+				elementCosts[k] = e.cost;
+				elementSuperelements[k] = e.superelement;
+				elementContainingLists[k] = e.containingList;
+				elementContainingContainers[k] = e.containingContainer;
+				elementContainingContainersSingletonElements[k] =
+					e.containingContainerSingletonElements;
+			}
+			
+			// save the fields of all superelements
+			superelements = allSuperelements.toArray(Snapshot.<Superelement<T>>
+				newArray(Superelement.class, allSuperelements.size()));
+			superelementCosts = new double[superelements.length];
+			superelementContainingLists = newArray
+				(SplitFindminStructureGabow.class, superelements.length);
+			superelementContainingContainers =
+				newArray(MyList.Container.class, superelements.length);
+			superelementElementsInSublist =
+				newArray(Element.class, superelements.length);
+			superelementContainingSublists = newArray
+				(SplitFindminStructureGabow.class, superelements.length);
+			
+			for (int k = 0; k < superelements.length; k++) {
+				Superelement<T> se = superelements[k];
+				
+				superelementCosts[k] = se.cost;
+				superelementContainingLists[k] = se.containingList;
+				superelementContainingContainers[k] =
+					se.containingContainerSingletonSuperelements;
+				superelementElementsInSublist[k] = se.elementInSublist;
+				superelementContainingSublists[k] = se.containingSublist;
+			}
+			
+			// take a snapshot of the next level
+			if (!allSublists.isEmpty()) {
+				sublistSnapshot = new Snapshot<Superelement<T>>(allSublists);
+			}
+		}
+		
+		
+		/**
+		 * Restores all fields of all objects of the lists this snapshot has
+		 * been taken of. All objects created after taking the snapshot become
+		 * unreachable.
+		 */
+		public void restore() {
+			for (int k = 0; k < lists.length; k++) {
+				SplitFindminStructureGabow<T> l = lists[k];
+				
+				l.cost = listCosts[k];
+				l.elements = listElements[k];
+				l.singletonElements = listSingletonElements[k];
+				l.singletonSuperelements = listSingletonSuperelements[k];
+				l.sublists = listSublists[k];
+				l.containingList = listContainingLists[k];
+				l.containingContainerSublists = listContainingContainers[k];
+			}
+			
+			elementLists.restore();
+			superelementLists.restore();
+			sublistLists.restore();
+			
+			for (int k = 0; k < elements.length; k++) {
+				Element<T> e = elements[k];
+				
+				e.cost = elementCosts[k];
+				e.superelement = elementSuperelements[k];
+				e.containingList = elementContainingLists[k];
+				e.containingContainer = elementContainingContainers[k];
+				e.containingContainerSingletonElements =
+					elementContainingContainersSingletonElements[k];
+			}
+			
+			for (int k = 0; k < superelements.length; k++) {
+				Superelement<T> se = superelements[k];
+				
+				se.cost = superelementCosts[k];
+				se.containingList = superelementContainingLists[k];
+				se.containingContainerSingletonSuperelements =
+					superelementContainingContainers[k];
+				se.elementInSublist = superelementElementsInSublist[k];
+				se.containingSublist = superelementContainingSublists[k];
+			}
+			
+			if (sublistSnapshot != null) {
+				sublistSnapshot.restore();
+			}
+		}
+		
+		
+		/**
+		 * Returns a new collection holding only the passed list.
+		 * 
+		 * @param <T>
+		 * 		the type of the items managed by the passed list
+		 * @param list
+		 * 		the list to hold
+		 * @return
+		 * 		a new collection holding only the passed list
+		 */
+		private static <T> ArrayList<SplitFindminStructureGabow<T>>
+			singletonList(SplitFindminStructureGabow<T> list) {
+			
+			ArrayList<SplitFindminStructureGabow<T>> allLists =
+				new ArrayList<SplitFindminStructureGabow<T>>(1);
+			allLists.add(list);
+			
+			return allLists;
+		}
+		
+		/**
+		 * Creates a new array of the passed length whose components are
+		 * instances of the specified class. Java does not allow creating
+		 * arrays of parameterized types directly.
+		 * 
+		 * @param <E>
+		 * 		the parameterized type of the components of the new array
+		 * @param componentClass
+		 * 		the erasure of the type of the components of the new array
+		 * @param length
+		 * 		the length of the new array
+		 * @return
+		 * 		the new array
+		 */
+		@SuppressWarnings("unchecked")
+		private static <E> E[] newArray(Class<?> componentClass, int length) {
+			return (E[])Array.newInstance(componentClass, length);
+		}
+		
+		
+		/**
+		 * A snapshot of the last containers of internal lists holding items
+		 * of the same type, and of the pointers of all of their containers.
+		 * 
+		 * @author
+		 * 		<a href="mailto:agent@local">agent</a>
+		 * @version
+		 * 		1.0, 10/18/26
+		 * @param <E>
+		 * 		the type of the items held by the internal lists
+		 */
+		private static class ListSnapshot<E> {
+			/**
+			 * All internal lists the snapshot has been taken of.
+			 */
+			private MyList<E>[] myLists;
+			
+			/**
+			 * The initial last containers of all internal lists.
+			 */
+			private MyList.Container<E>[] myListLastContainers;
+			
+			/**
+			 * All containers of all internal lists, including their sentinels.
+			 */
+			private MyList.Container<E>[] containers;
+			
+			/**
+			 * The initial predecessors of all containers.
+			 */
+			private MyList.Container<E>[] containerPredecessors;
+			
+			/**
+			 * The initial successors of all containers.
+			 */
+			private MyList.Container<E>[] containerSuccessors;
+			
+			
+			/**
+			 * Takes a snapshot of the passed internal lists.
+			 * 
+			 * @param allMyLists
+			 * 		the internal lists to take the snapshot of
+			 */
+			public ListSnapshot(ArrayList<MyList<E>> allMyLists) {
+				// collect all containers of the passed lists
+				ArrayList<MyList.Container<E>> allContainers =
+					new ArrayList<MyList.Container<E>>();
+				
+				for (MyList<E> myList : allMyLists) {
+					for (MyList.Container<E> c = myList.leftSentinel; c != null;
+							c = c.successor) {
+						allContainers.add(c);
+					}
+				}
+				
+				// save the fields of all internal lists
+				myLists = allMyLists.toArray(Snapshot.<MyList<E>>
+					newArray(MyList.class, allMyLists.size()));
+				myListLastContainers =
+					newArray(MyList.Container.class, myLists.length);
+				
+				for (int k = 0; k < myLists.length; k++) {
+					myListLastContainers[k] = myLists[k].lastContainer;
+				}
+				
+				// save the fields of all containers
+				containers = allContainers.toArray
+					(Snapshot.<MyList.Container<E>>
+						newArray(MyList.Container.class, allContainers.size()));
+				containerPredecessors =
+					newArray(MyList.Container.class, containers.length);
+				containerSuccessors =
+					newArray(MyList.Container.class, containers.length);
+				
+				for (int k = 0; k < containers.length; k++) {
+					containerPredecessors[k] = containers[k].predecessor;
+					containerSuccessors[k] = containers[k].successor;
+				}
+			}
+			
+			
+			/**
+			 * Restores the last containers of all internal lists and the
+			 * pointers of all of their containers.
+			 */
+			public void restore() {
+				for (int k = 0; k < myLists.length; k++) {
+					myLists[k].lastContainer = myListLastContainers[k];
+				}
+				
+				for (int k = 0; k < containers.length; k++) {
+					containers[k].predecessor = containerPredecessors[k];
+					containers[k].successor = containerSuccessors[k];
+				}
+			}
+		}
+	}
+	
+	
 	/**
 	 * An implementation of a doubly-linked list which allows cutting this list
 	 * after a specified element, or concatenating two lists, in constant time.
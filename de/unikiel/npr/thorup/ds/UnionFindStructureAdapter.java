@@ -0,0 +1,100 @@
+package de.unikiel.npr.thorup.ds;
+
+/**
+ * Adapts a generic union-find structure to the {@link IntUnionFindStructure}
+ * interface, adding one singleton set holding its index for each element.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class UnionFindStructureAdapter implements IntUnionFindStructure {
+	/**
+	 * The adapted union-find structure.
+	 */
+	@SuppressWarnings("unchecked")
+	private UnionFindStructure uf;
+	
+	/**
+	 * The containers of the adapted union-find structure holding the
+	 * elements of this structure.
+	 */
+	private UnionFindNode<Integer>[] nodes;
+	
+	
+	/**
+	 * Constructs a new adapter for the passed union-find structure, adding
+	 * a singleton set for each of the specified number of elements to it.
+	 * 
+	 * @param uf
+	 * 		the union-find structure to adapt
+	 * @param n
+	 * 		the number of elements of the new union-find structure
+	 * @throws IllegalArgumentException
+	 * 		if <code>n</code> is less than 0
+	 */
+	@SuppressWarnings("unchecked")
+	public UnionFindStructureAdapter(UnionFindStructure uf, int n) {
+		// check the passed natural number
+		if (n < 0) {
+			String errorMessage = "n must be greater than or equal to 0.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.uf = uf;
+		
+		nodes = new UnionFindNode[n];
+		
+		for (int v = 0; v < n; v++) {
+			nodes[v] = uf.makeSet(v);
+		}
+	}
+	
+	
+	/**
+	 * Gets the number of elements of this union-find structure.
+	 * 
+	 * @return
+	 * 		the number of elements of this union-find structure
+	 */
+	public int getNumberOfElements() {
+		return nodes.length;
+	}
+	
+	/**
+	 * Returns the canonical element of the set containing <code>v</code>.
+	 * 
+	 * @param v
+	 * 		the element to get the canonical element of
+	 * @return
+	 * 		the canonical element of the set containing <code>v</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public int find(int v) {
+		return (Integer)uf.find(nodes[v]).getItem();
+	}
+	
+	/**
+	 * Merges the sets containing the elements <code>u</code> and
+	 * <code>v</code>, if they are different.
+	 * 
+	 * @param u
+	 * 		an element in the first set to merge
+	 * @param v
+	 * 		an element in the second set to merge
+	 * @return
+	 * 		<code>true</code>, if two different sets have been merged, and
+	 * 		<code>false</code> otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean union(int u, int v) {
+		if (find(u) == find(v)) {
+			return false;
+		}
+		
+		uf.union(nodes[u], nodes[v]);
+		return true;
+	}
+}
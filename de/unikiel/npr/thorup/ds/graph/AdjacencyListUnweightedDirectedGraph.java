@@ -239,6 +239,52 @@ public class AdjacencyListUnweightedDirectedGraph<T extends Edge>
 		return edgeWeights;
 	}
 	
+	/**
+	 * Returns the number of edges leaving the vertex with the passed index.
+	 * No range checks are performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get the degree of
+	 * @return
+	 * 		the number of edges leaving the vertex with the passed index
+	 */
+	public int getDegree(int v) {
+		return adjacencyList[v].size();
+	}
+	
+	/**
+	 * Returns the index of the target vertex of the <code>k</code>-th edge
+	 * leaving the vertex with the index <code>v</code>. No range checks are
+	 * performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the index of the target vertex of the <code>k</code>-th edge
+	 * 		leaving the vertex with the index <code>v</code>
+	 */
+	public int getAdjacentVertex(int v, int k) {
+		return adjacencyList[v].get(k).target;
+	}
+	
+	/**
+	 * Returns <code>1</code> as this graph is unweighted.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		<code>1</code>
+	 */
+	public int getIncidentEdgeWeight(int v, int k) {
+		return 1;
+	}
+	
 	/**
 	 * Returns the list of edges that are incident to the vertex with the
 	 * passed index.<br>
@@ -101,4 +101,22 @@ public class AdjacencyListWeightedDirectedGraph<T extends WeightedEdge>
 		
 		return edgeWeights;
 	}
+	
+	/**
+	 * Returns the weight of the <code>k</code>-th edge leaving the vertex with
+	 * the index <code>v</code>. No range checks are performed for the sake of
+	 * performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the weight of the <code>k</code>-th edge leaving the vertex with
+	 * 		the index <code>v</code>
+	 */
+	public int getIncidentEdgeWeight(int v, int k) {
+		return adjacencyList[v].get(k).getWeight();
+	}
 }
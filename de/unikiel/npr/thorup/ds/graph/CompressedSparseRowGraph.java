@@ -0,0 +1,443 @@
+package de.unikiel.npr.thorup.ds.graph;
+
+import java.util.ArrayList;
+
+/**
+ * An immutable implementation of a weighted, directed graph using the
+ * <i>compressed sparse row</i> (CSR) format for encoding the set of edges.<br>
+ * <br>
+ * The edges are stored in three primitive arrays: The targets and weights of
+ * all edges leaving the vertex with the index <code>v</code> can be found at
+ * the positions <code>offsets[v]</code> up to, but not including,
+ * <code>offsets[v + 1]</code> of the arrays <code>targets</code> and
+ * <code>weights</code>. Compared to an adjacency list, this requires no
+ * objects per edge and allows iterating the neighbors of a vertex without
+ * any allocations using {@link #getDegree(int)},
+ * {@link #getAdjacentVertex(int, int)} and
+ * {@link #getIncidentEdgeWeight(int, int)}.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class CompressedSparseRowGraph implements WeightedGraph<WeightedEdge> {
+	/**
+	 * The number of vertices of this graph.
+	 */
+	private int numberOfVertices;
+	
+	/**
+	 * The index of the first edge leaving each vertex of this graph in
+	 * {@link #targets} and {@link #weights}, followed by the number of edges
+	 * of this graph.
+	 */
+	private int[] offsets;
+	
+	/**
+	 * The indices of the target vertices of all edges of this graph, ordered
+	 * by their source vertices.
+	 */
+	private int[] targets;
+	
+	/**
+	 * The weights of all edges of this graph, ordered by their source
+	 * vertices.
+	 */
+	private int[] weights;
+	
+	
+	/**
+	 * Constructs a new weighted, directed graph in compressed sparse row
+	 * format that contains the same vertices and edges as the passed one.
+	 * 
+	 * @param g
+	 * 		the graph to copy
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 */
+	public CompressedSparseRowGraph(WeightedGraph<? extends WeightedEdge> g)
+		throws IllegalArgumentException {
+		
+		// check the passed graph
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		numberOfVertices = g.getNumberOfVertices();
+		
+		offsets = new int[numberOfVertices + 1];
+		targets = new int[g.getNumberOfEdges()];
+		weights = new int[g.getNumberOfEdges()];
+		
+		// copy the edges of all vertices, one after another
+		int k = 0;
+		
+		for (int v = 0; v < numberOfVertices; v++) {
+			offsets[v] = k;
+			
+			for (WeightedEdge e : g.getIncidentEdges(v)) {
+				targets[k] = e.getTarget();
+				weights[k] = e.getWeight();
+				k++;
+			}
+		}
+		
+		offsets[numberOfVertices] = k;
+	}
+	
+	/**
+	 * Constructs a new weighted, directed graph in compressed sparse row
+	 * format from the passed arrays. The targets and weights of all edges
+	 * leaving the vertex with the index <code>v</code> are expected at the
+	 * positions <code>offsets[v]</code> up to, but not including,
+	 * <code>offsets[v + 1]</code> of <code>targets</code> and
+	 * <code>weights</code>.<br>
+	 * <br>
+	 * <i>Note that the passed arrays are not copied; thus modifying them
+	 * afterwards will change the edges of the new graph.</i>
+	 * 
+	 * @param offsets
+	 * 		the index of the first edge leaving each vertex, followed by the
+	 * 		total number of edges
+	 * @param targets
+	 * 		the indices of the target vertices of all edges
+	 * @param weights
+	 * 		the weights of all edges
+	 * @throws IllegalArgumentException
+	 * 		if any of the passed arrays is <code>null</code>
+	 * @throws IllegalArgumentException
+	 * 		if the passed arrays don't describe a graph with at least one vertex
+	 * 		in compressed sparse row format
+	 */
+	public CompressedSparseRowGraph(int[] offsets, int[] targets,
+			int[] weights) throws IllegalArgumentException {
+		
+		// check the passed arrays
+		if (offsets == null || targets == null || weights == null) {
+			String errorMessage = "The passed arrays musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if (offsets.length < 2) {
+			String errorMessage = "n must be greater than or equal to 1.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		int n = offsets.length - 1;
+		
+		if (offsets[0] != 0 || offsets[n] != targets.length ||
+			targets.length != weights.length) {
+			
+			String errorMessage = "The passed offsets don't match the " +
+					"passed edges.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		for (int v = 0; v < n; v++) {
+			if (offsets[v] > offsets[v + 1]) {
+				String errorMessage = "The passed offsets must be " +
+						"non-decreasing.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+		}
+		
+		for (int k = 0; k < targets.length; k++) {
+			if (targets[k] < 0 || targets[k] >= n) {
+				String errorMessage =
+					"Allows vertex indizes are 0.." + (n - 1) + ".";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+		}
+		
+		numberOfVertices = n;
+		
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+	}
+	
+	
+	/**
+	 * Returns true, if there is an edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> within this graph, and false otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to check
+	 * @param j
+	 * 		the index of the end vertex to check
+	 * @return
+	 * 		true, if there is an edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code> within this graph, and<br>
+	 * 		false, otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	public boolean hasEdge(int i, int j) throws IllegalArgumentException {
+		return (indexOfEdge(i, j) != -1);
+	}
+	
+	/**
+	 * Returns a new edge object describing the edge between the vertices with
+	 * the indices <code>i</code> and <code>j</code> within this graph, if
+	 * there is one, and <code>null</code> otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to get the edge of
+	 * @param j
+	 * 		the index of the end vertex to get the edge of
+	 * @return
+	 * 		the edge between the vertices with the indices <code>i</code> and
+	 * 		<code>j</code> within this graph, if there is one, and
+	 * 		<code>null</code> otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	public WeightedEdge getEdge(int i, int j) throws IllegalArgumentException {
+		int k = indexOfEdge(i, j);
+		
+		if (k == -1) {
+			return null;
+		}
+		
+		return new WeightedEdge(i, j, weights[k]);
+	}
+	
+	/**
+	 * Returns the weight of the edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> within this graph, if there is one, and
+	 * throws an {@link IllegalArgumentException}, otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to check
+	 * @param j
+	 * 		the index of the end vertex to check
+	 * @return
+	 * 		the weight of the edge between the vertices with the indices
+	 * 		<code>i</code> and	<code>j</code> within this graph, if there is
+	 * 		one
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 * @throws IllegalArgumentException
+	 * 		if there is no edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code> within this graph
+	 */
+	public int getEdgeWeight(int i, int j) throws IllegalArgumentException {
+		int k = indexOfEdge(i, j);
+		
+		if (k != -1) {
+			return weights[k];
+		}
+		
+		String errorMessage = "There is no edge between the vertices with " +
+				"the indices " + i + " and " + j + " within this graph.";
+		throw new IllegalArgumentException(errorMessage);
+	}
+	
+	/**
+	 * Returns an array containing the indices of all vertices that are
+	 * adjacent to the vertex with the index <code>i</code> within this graph.
+	 * 
+	 * @param i
+	 * 		the index of the vertex to get the adjacent vertices of
+	 * @return
+	 * 		an array containing the indices of all vertices that are adjacent to
+	 * 		the vertex with the index <code>i</code> within this graph
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public int[] getArrayOfAdjacentVertices(int i)
+		throws IllegalArgumentException {
+		
+		checkVertex(i);
+		
+		return java.util.Arrays.copyOfRange
+			(targets, offsets[i], offsets[i + 1]);
+	}
+	
+	/**
+	 * Returns an array containing the weights of all edges that are
+	 * incident to the vertex with the index <code>i</code> within this graph.
+	 * 
+	 * @param i
+	 * 		the index of the vertex to get the edge weights of
+	 * @return
+	 * 		an array containing the weights of all edges that are incident to
+	 * 		the vertex with the index <code>i</code> within this graph
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public int[] getArrayOfIncidentEdgeWeights(int i)
+		throws IllegalArgumentException {
+		
+		checkVertex(i);
+		
+		return java.util.Arrays.copyOfRange
+			(weights, offsets[i], offsets[i + 1]);
+	}
+	
+	/**
+	 * Returns a new list containing new edge objects describing all edges that
+	 * are incident to the vertex with the passed index.<br>
+	 * <br>
+	 * <i>Note that this graph doesn't store any edge objects; prefer
+	 * {@link #getDegree(int)}, {@link #getAdjacentVertex(int, int)} and
+	 * {@link #getIncidentEdgeWeight(int, int)} for iterating the neighbors of a
+	 * vertex without any allocations.</i>
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get all incident edges of
+	 * @return
+	 * 		the list of edges that are incident to the vertex with the
+	 * 		passed index
+	 * @throws IllegalArgumentException
+	 * 		if <code>v</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public ArrayList<WeightedEdge> getIncidentEdges(int v)
+		throws IllegalArgumentException {
+		
+		checkVertex(v);
+		
+		ArrayList<WeightedEdge> edges =
+			new ArrayList<WeightedEdge>(offsets[v + 1] - offsets[v]);
+		
+		for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+			edges.add(new WeightedEdge(v, targets[k], weights[k]));
+		}
+		
+		return edges;
+	}
+	
+	/**
+	 * Returns the number of edges leaving the vertex with the passed index.
+	 * No range checks are performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get the degree of
+	 * @return
+	 * 		the number of edges leaving the vertex with the passed index
+	 */
+	public int getDegree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+	
+	/**
+	 * Returns the index of the target vertex of the <code>k</code>-th edge
+	 * leaving the vertex with the index <code>v</code>. No range checks are
+	 * performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the index of the target vertex of the <code>k</code>-th edge
+	 * 		leaving the vertex with the index <code>v</code>
+	 */
+	public int getAdjacentVertex(int v, int k) {
+		return targets[offsets[v] + k];
+	}
+	
+	/**
+	 * Returns the weight of the <code>k</code>-th edge leaving the vertex with
+	 * the index <code>v</code>. No range checks are performed for the sake of
+	 * performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the weight of the <code>k</code>-th edge leaving the vertex with
+	 * 		the index <code>v</code>
+	 */
+	public int getIncidentEdgeWeight(int v, int k) {
+		return weights[offsets[v] + k];
+	}
+	
+	/**
+	 * Returns the number of vertices of this graph.
+	 * 
+	 * @return
+	 * 		the number of vertices of this graph
+	 */
+	public int getNumberOfVertices() {
+		return numberOfVertices;
+	}
+	
+	/**
+	 * Returns the number of edges of this graph.
+	 * 
+	 * @return
+	 * 		the number of edges of this graph
+	 */
+	public int getNumberOfEdges() {
+		return targets.length;
+	}
+	
+	
+	/**
+	 * Returns the position of the edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> in {@link #targets} and
+	 * {@link #weights}, if there is one, and <code>-1</code> otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex of the edge
+	 * @param j
+	 * 		the index of the end vertex of the edge
+	 * @return
+	 * 		the position of the edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code>, if there is one, and
+	 * 		<code>-1</code> otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	private int indexOfEdge(int i, int j) throws IllegalArgumentException {
+		checkVertex(i);
+		checkVertex(j);
+		
+		for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+			if (targets[k] == j) {
+				return k;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Throws an {@link IllegalArgumentException} if the passed vertex index
+	 * is not between 0 and the number of vertices of this graph.
+	 * 
+	 * @param v
+	 * 		the vertex index to check
+	 * @throws IllegalArgumentException
+	 * 		if <code>v</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	private void checkVertex(int v) throws IllegalArgumentException {
+		if (v < 0 || v >= numberOfVertices) {
+			String errorMessage =
+				"Allows vertex indizes are 0.."
+				+ (numberOfVertices - 1) + ".";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+}
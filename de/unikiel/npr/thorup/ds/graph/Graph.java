@@ -82,6 +82,52 @@ public interface Graph<T extends Edge> {
 	 */
 	int[] getArrayOfIncidentEdgeWeights(int i) throws IllegalArgumentException;
 	
+	/**
+	 * Returns the number of edges leaving the vertex with the passed index.
+	 * Together with {@link #getAdjacentVertex(int, int)} and
+	 * {@link #getIncidentEdgeWeight(int, int)}, this allows iterating the
+	 * neighbors of a vertex without any allocations. No range checks are
+	 * performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get the degree of
+	 * @return
+	 * 		the number of edges leaving the vertex with the passed index
+	 */
+	int getDegree(int v);
+	
+	/**
+	 * Returns the index of the target vertex of the <code>k</code>-th edge
+	 * leaving the vertex with the index <code>v</code>. No range checks are
+	 * performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the index of the target vertex of the <code>k</code>-th edge
+	 * 		leaving the vertex with the index <code>v</code>
+	 */
+	int getAdjacentVertex(int v, int k);
+	
+	/**
+	 * Returns the weight of the <code>k</code>-th edge leaving the vertex with
+	 * the index <code>v</code>. For unweighted graphs, this should be 1. No
+	 * range checks are performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the weight of the <code>k</code>-th edge leaving the vertex with
+	 * 		the index <code>v</code>
+	 */
+	int getIncidentEdgeWeight(int v, int k);
+	
 	/**
 	 * Returns the number of vertices of this graph.
 	 * 
@@ -0,0 +1,528 @@
+package de.unikiel.npr.thorup.ds.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * An immutable implementation of a weighted, directed graph in
+ * <i>compressed sparse row</i> (CSR) format that is read from a binary file
+ * by mapping it into memory. Opening a graph this way takes almost no time
+ * regardless of its size, and the mapped file is shared across all JVMs
+ * through the page cache of the operating system.<br>
+ * <br>
+ * The file is expected to consist of the following sections, all of which
+ * contain 32-bit integers in big-endian byte order, as written by
+ * {@link de.unikiel.npr.thorup.util.CompressedSparseRowGraphWriter}:
+ * 
+ * <ol>
+ * 		<li>
+ * 			the header: {@link #MAGIC_NUMBER}, {@link #VERSION}, the number of
+ * 			vertices <i>n</i> and the number of edges <i>m</i>,
+ * 		</li>
+ * 		<li>
+ * 			the <i>n + 1</i> offsets of the first edge leaving each vertex,
+ * 			followed by <i>m</i>,
+ * 		</li>
+ * 		<li>
+ * 			the indices of the target vertices of all <i>m</i> edges, ordered
+ * 			by their source vertices, and
+ * 		</li>
+ * 		<li>
+ * 			the weights of all <i>m</i> edges, in the same order.
+ * 		</li>
+ * </ol>
+ * 
+ * Each section is mapped in chunks of {@link #CHUNK_SIZE} integers, allowing
+ * sections larger than the two gigabytes a single mapping can hold.
+ * 
+ * @see CompressedSparseRowGraph
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class MappedCompressedSparseRowGraph
+	implements WeightedGraph<WeightedEdge> {
+	
+	/**
+	 * The magic number every binary graph file in compressed sparse row
+	 * format starts with, reading <code>CSRG</code> in ASCII.
+	 */
+	public static final int MAGIC_NUMBER = 0x43535247;
+	
+	/**
+	 * The version of the binary graph file format supported by this class.
+	 */
+	public static final int VERSION = 1;
+	
+	/**
+	 * The size of the header of a binary graph file in compressed sparse row
+	 * format, in bytes.
+	 */
+	public static final int HEADER_SIZE = 16;
+	
+	/**
+	 * The binary logarithm of {@link #CHUNK_SIZE}.
+	 */
+	private static final int CHUNK_BITS = 27;
+	
+	/**
+	 * The number of integers mapped into memory at once.
+	 */
+	public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	
+	/**
+	 * The bit mask for getting the position of an integer within its chunk.
+	 */
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	
+	/**
+	 * The number of vertices of this graph.
+	 */
+	private int numberOfVertices;
+	
+	/**
+	 * The number of edges of this graph.
+	 */
+	private int numberOfEdges;
+	
+	/**
+	 * The mapped chunks of the index of the first edge leaving each vertex of
+	 * this graph, followed by the number of edges of this graph.
+	 */
+	private IntBuffer[] offsets;
+	
+	/**
+	 * The mapped chunks of the indices of the target vertices of all edges of
+	 * this graph, ordered by their source vertices.
+	 */
+	private IntBuffer[] targets;
+	
+	/**
+	 * The mapped chunks of the weights of all edges of this graph, ordered by
+	 * their source vertices.
+	 */
+	private IntBuffer[] weights;
+	
+	
+	/**
+	 * Opens the binary graph file in compressed sparse row format at the
+	 * specified location by mapping it into memory.<br>
+	 * <br>
+	 * <i>Note that only the header and the length of the file are checked
+	 * while opening it, as checking all edges would mean reading the whole
+	 * file.</i>
+	 * 
+	 * @param f
+	 * 		the file to read the graph from
+	 * @throws IOException
+	 * 		if an I/O error occurs opening or mapping the specified file
+	 * @throws IllegalArgumentException
+	 * 		if the specified file does not contain a graph in compressed sparse
+	 * 		row format
+	 */
+	public MappedCompressedSparseRowGraph(File f)
+		throws IOException, IllegalArgumentException {
+		
+		RandomAccessFile file = new RandomAccessFile(f, "r");
+		
+		try {
+			FileChannel channel = file.getChannel();
+			
+			// read and check the header
+			if (channel.size() < HEADER_SIZE) {
+				String errorMessage = "The specified file does not contain a " +
+						"graph in compressed sparse row format.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			IntBuffer header = channel.map
+				(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).asIntBuffer();
+			
+			if (header.get(0) != MAGIC_NUMBER) {
+				String errorMessage = "The specified file does not contain a " +
+						"graph in compressed sparse row format.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			if (header.get(1) != VERSION) {
+				String errorMessage = "Unsupported file format version: " +
+						header.get(1) + ".";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			numberOfVertices = header.get(2);
+			numberOfEdges = header.get(3);
+			
+			if (numberOfVertices < 1 || numberOfEdges < 0) {
+				String errorMessage = "The specified file does not contain a " +
+						"graph in compressed sparse row format.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			// check the length of the file
+			long offsetsPosition = HEADER_SIZE;
+			long targetsPosition = offsetsPosition +
+				4L * (numberOfVertices + 1L);
+			long weightsPosition = targetsPosition + 4L * numberOfEdges;
+			long end = weightsPosition + 4L * numberOfEdges;
+			
+			if (channel.size() != end) {
+				String errorMessage = "The length of the specified file does " +
+						"not match the number of vertices and edges in its " +
+						"header.";
+				
+				throw new IllegalArgumentException(errorMessage);
+			}
+			
+			// map all sections - the mappings stay valid after closing the file
+			offsets = map(channel, offsetsPosition, numberOfVertices + 1L);
+			targets = map(channel, targetsPosition, numberOfEdges);
+			weights = map(channel, weightsPosition, numberOfEdges);
+		} finally {
+			file.close();
+		}
+	}
+	
+	
+	/**
+	 * Returns true, if there is an edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> within this graph, and false otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to check
+	 * @param j
+	 * 		the index of the end vertex to check
+	 * @return
+	 * 		true, if there is an edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code> within this graph, and<br>
+	 * 		false, otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	public boolean hasEdge(int i, int j) throws IllegalArgumentException {
+		return (indexOfEdge(i, j) != -1);
+	}
+	
+	/**
+	 * Returns a new edge object describing the edge between the vertices with
+	 * the indices <code>i</code> and <code>j</code> within this graph, if
+	 * there is one, and <code>null</code> otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to get the edge of
+	 * @param j
+	 * 		the index of the end vertex to get the edge of
+	 * @return
+	 * 		the edge between the vertices with the indices <code>i</code> and
+	 * 		<code>j</code> within this graph, if there is one, and
+	 * 		<code>null</code> otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	public WeightedEdge getEdge(int i, int j) throws IllegalArgumentException {
+		int k = indexOfEdge(i, j);
+		
+		if (k == -1) {
+			return null;
+		}
+		
+		return new WeightedEdge(i, j, get(weights, k));
+	}
+	
+	/**
+	 * Returns the weight of the edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> within this graph, if there is one, and
+	 * throws an {@link IllegalArgumentException}, otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex to check
+	 * @param j
+	 * 		the index of the end vertex to check
+	 * @return
+	 * 		the weight of the edge between the vertices with the indices
+	 * 		<code>i</code> and	<code>j</code> within this graph, if there is
+	 * 		one
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 * @throws IllegalArgumentException
+	 * 		if there is no edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code> within this graph
+	 */
+	public int getEdgeWeight(int i, int j) throws IllegalArgumentException {
+		int k = indexOfEdge(i, j);
+		
+		if (k != -1) {
+			return get(weights, k);
+		}
+		
+		String errorMessage = "There is no edge between the vertices with " +
+				"the indices " + i + " and " + j + " within this graph.";
+		throw new IllegalArgumentException(errorMessage);
+	}
+	
+	/**
+	 * Returns an array containing the indices of all vertices that are
+	 * adjacent to the vertex with the index <code>i</code> within this graph.
+	 * 
+	 * @param i
+	 * 		the index of the vertex to get the adjacent vertices of
+	 * @return
+	 * 		an array containing the indices of all vertices that are adjacent to
+	 * 		the vertex with the index <code>i</code> within this graph
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public int[] getArrayOfAdjacentVertices(int i)
+		throws IllegalArgumentException {
+		
+		checkVertex(i);
+		
+		int[] adjacentVertices = new int[getDegree(i)];
+		
+		for (int k = 0; k < adjacentVertices.length; k++) {
+			adjacentVertices[k] = getAdjacentVertex(i, k);
+		}
+		
+		return adjacentVertices;
+	}
+	
+	/**
+	 * Returns an array containing the weights of all edges that are
+	 * incident to the vertex with the index <code>i</code> within this graph.
+	 * 
+	 * @param i
+	 * 		the index of the vertex to get the edge weights of
+	 * @return
+	 * 		an array containing the weights of all edges that are incident to
+	 * 		the vertex with the index <code>i</code> within this graph
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public int[] getArrayOfIncidentEdgeWeights(int i)
+		throws IllegalArgumentException {
+		
+		checkVertex(i);
+		
+		int[] incidentEdgeWeights = new int[getDegree(i)];
+		
+		for (int k = 0; k < incidentEdgeWeights.length; k++) {
+			incidentEdgeWeights[k] = getIncidentEdgeWeight(i, k);
+		}
+		
+		return incidentEdgeWeights;
+	}
+	
+	/**
+	 * Returns a new list containing new edge objects describing all edges that
+	 * are incident to the vertex with the passed index.
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get all incident edges of
+	 * @return
+	 * 		the list of edges that are incident to the vertex with the
+	 * 		passed index
+	 * @throws IllegalArgumentException
+	 * 		if <code>v</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	public ArrayList<WeightedEdge> getIncidentEdges(int v)
+		throws IllegalArgumentException {
+		
+		checkVertex(v);
+		
+		int degree = getDegree(v);
+		
+		ArrayList<WeightedEdge> edges = new ArrayList<WeightedEdge>(degree);
+		
+		for (int k = 0; k < degree; k++) {
+			edges.add(new WeightedEdge(v, getAdjacentVertex(v, k),
+					getIncidentEdgeWeight(v, k)));
+		}
+		
+		return edges;
+	}
+	
+	/**
+	 * Returns the number of edges leaving the vertex with the passed index.
+	 * No range checks are performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the vertex to get the degree of
+	 * @return
+	 * 		the number of edges leaving the vertex with the passed index
+	 */
+	public int getDegree(int v) {
+		return get(offsets, v + 1) - get(offsets, v);
+	}
+	
+	/**
+	 * Returns the index of the target vertex of the <code>k</code>-th edge
+	 * leaving the vertex with the index <code>v</code>. No range checks are
+	 * performed for the sake of performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the index of the target vertex of the <code>k</code>-th edge
+	 * 		leaving the vertex with the index <code>v</code>
+	 */
+	public int getAdjacentVertex(int v, int k) {
+		return get(targets, get(offsets, v) + k);
+	}
+	
+	/**
+	 * Returns the weight of the <code>k</code>-th edge leaving the vertex with
+	 * the index <code>v</code>. No range checks are performed for the sake of
+	 * performance.
+	 * 
+	 * @param v
+	 * 		the index of the source vertex of the edge
+	 * @param k
+	 * 		the index of the edge among all edges leaving <code>v</code>,
+	 * 		between 0 and the degree of <code>v</code>
+	 * @return
+	 * 		the weight of the <code>k</code>-th edge leaving the vertex with
+	 * 		the index <code>v</code>
+	 */
+	public int getIncidentEdgeWeight(int v, int k) {
+		return get(weights, get(offsets, v) + k);
+	}
+	
+	/**
+	 * Returns the number of vertices of this graph.
+	 * 
+	 * @return
+	 * 		the number of vertices of this graph
+	 */
+	public int getNumberOfVertices() {
+		return numberOfVertices;
+	}
+	
+	/**
+	 * Returns the number of edges of this graph.
+	 * 
+	 * @return
+	 * 		the number of edges of this graph
+	 */
+	public int getNumberOfEdges() {
+		return numberOfEdges;
+	}
+	
+	
+	/**
+	 * Maps the specified number of integers starting at the passed position
+	 * of the passed file channel into memory, in chunks of
+	 * {@link #CHUNK_SIZE} integers.
+	 * 
+	 * @param channel
+	 * 		the file channel to map
+	 * @param position
+	 * 		the position of the first integer to map, in bytes
+	 * @param length
+	 * 		the number of integers to map
+	 * @return
+	 * 		the mapped chunks
+	 * @throws IOException
+	 * 		if an I/O error occurs mapping the file
+	 */
+	private static IntBuffer[] map(FileChannel channel, long position,
+			long length) throws IOException {
+		
+		int numberOfChunks = (int)((length + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+		IntBuffer[] chunks = new IntBuffer[numberOfChunks];
+		
+		for (int c = 0; c < numberOfChunks; c++) {
+			long chunkLength =
+				Math.min(CHUNK_SIZE, length - ((long)c << CHUNK_BITS));
+			
+			chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY,
+					position + 4L * ((long)c << CHUNK_BITS),
+					4L * chunkLength).asIntBuffer();
+		}
+		
+		return chunks;
+	}
+	
+	/**
+	 * Returns the integer with the passed index within the passed chunks.
+	 * 
+	 * @param chunks
+	 * 		the chunks to get the integer from
+	 * @param index
+	 * 		the index of the integer to get
+	 * @return
+	 * 		the integer with the passed index within the passed chunks
+	 */
+	private static int get(IntBuffer[] chunks, int index) {
+		return chunks[index >>> CHUNK_BITS].get(index & CHUNK_MASK);
+	}
+	
+	/**
+	 * Returns the position of the edge between the vertices with the indices
+	 * <code>i</code> and <code>j</code> in {@link #targets} and
+	 * {@link #weights}, if there is one, and <code>-1</code> otherwise.
+	 * 
+	 * @param i
+	 * 		the index of the start vertex of the edge
+	 * @param j
+	 * 		the index of the end vertex of the edge
+	 * @return
+	 * 		the position of the edge between the vertices with the indices
+	 * 		<code>i</code> and <code>j</code>, if there is one, and
+	 * 		<code>-1</code> otherwise
+	 * @throws IllegalArgumentException
+	 * 		if <code>i</code> or <code>j</code> are not between 0 and the
+	 * 		number of vertices of this graph
+	 */
+	private int indexOfEdge(int i, int j) throws IllegalArgumentException {
+		checkVertex(i);
+		checkVertex(j);
+		
+		int end = get(offsets, i + 1);
+		
+		for (int k = get(offsets, i); k < end; k++) {
+			if (get(targets, k) == j) {
+				return k;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Throws an {@link IllegalArgumentException} if the passed vertex index
+	 * is not between 0 and the number of vertices of this graph.
+	 * 
+	 * @param v
+	 * 		the vertex index to check
+	 * @throws IllegalArgumentException
+	 * 		if <code>v</code> is not between 0 and the number of vertices of
+	 * 		this graph
+	 */
+	private void checkVertex(int v) throws IllegalArgumentException {
+		if (v < 0 || v >= numberOfVertices) {
+			String errorMessage =
+				"Allows vertex indizes are 0.."
+				+ (numberOfVertices - 1) + ".";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package de.unikiel.npr.thorup.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+
+import de.unikiel.npr.thorup.ds.graph.CompressedSparseRowGraph;
+import de.unikiel.npr.thorup.ds.graph.MappedCompressedSparseRowGraph;
+import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
+import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
+
+/**
+ * A writer for writing a graph to any output stream in the binary
+ * compressed sparse row format that can be mapped into memory by
+ * {@link MappedCompressedSparseRowGraph}.
+ * 
+ * @see MappedCompressedSparseRowGraph
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class CompressedSparseRowGraphWriter {
+	/**
+	 * The message to show whenever a wrong number of command-line parameters
+	 * is passed.
+	 */
+	public static final String USAGE = "CompressedSparseRowGraphWriter " +
+			"<zippedDIMACSGraphFile> <outputFile>";
+	
+	
+	/**
+	 * Writes the passed graph to the specified output stream in binary
+	 * compressed sparse row format.
+	 * 
+	 * @param g
+	 * 		the graph to write
+	 * @param out
+	 * 		the stream to write the graph to
+	 * @throws IOException
+	 * 		if an I/O error occurs writing to the specified output stream
+	 * @throws IllegalArgumentException
+	 * 		if the passed graph is <code>null</code>
+	 */
+	public void writeGraph(WeightedGraph<? extends WeightedEdge> g,
+			OutputStream out) throws IOException, IllegalArgumentException {
+		
+		// check the passed graph
+		if (g == null) {
+			String errorMessage = "The passed graph musn't be null.";
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		// get the edges of the graph in compressed sparse row format
+		CompressedSparseRowGraph csr;
+		
+		if (g instanceof CompressedSparseRowGraph) {
+			csr = (CompressedSparseRowGraph)g;
+		} else {
+			csr = new CompressedSparseRowGraph(g);
+		}
+		
+		int n = csr.getNumberOfVertices();
+		
+		DataOutputStream dataOut =
+			new DataOutputStream(new BufferedOutputStream(out));
+		
+		// write header
+		dataOut.writeInt(MappedCompressedSparseRowGraph.MAGIC_NUMBER);
+		dataOut.writeInt(MappedCompressedSparseRowGraph.VERSION);
+		dataOut.writeInt(n);
+		dataOut.writeInt(csr.getNumberOfEdges());
+		
+		// write offsets
+		int offset = 0;
+		
+		for (int v = 0; v < n; v++) {
+			dataOut.writeInt(offset);
+			offset += csr.getDegree(v);
+		}
+		
+		dataOut.writeInt(offset);
+		
+		// write targets
+		for (int v = 0; v < n; v++) {
+			for (int k = 0; k < csr.getDegree(v); k++) {
+				dataOut.writeInt(csr.getAdjacentVertex(v, k));
+			}
+		}
+		
+		// write weights
+		for (int v = 0; v < n; v++) {
+			for (int k = 0; k < csr.getDegree(v); k++) {
+				dataOut.writeInt(csr.getIncidentEdgeWeight(v, k));
+			}
+		}
+		
+		dataOut.flush();
+	}
+	
+	
+	/**
+	 * Reads a weighted graph in DIMACS format from the passed file and writes
+	 * it to the other passed file in binary compressed sparse row format.
+	 * 
+	 * @param args
+	 * 		<code>args[0]</code> is the file to read the input graph from, and
+	 * 		<br>
+	 * 		<code>args[1]</code> is the file to write the graph to
+	 */
+	public static void main(String[] args) {
+		// check the number of command-line arguments
+		if (args.length != 2) {
+			System.out.println(USAGE);
+			System.exit(1);
+		}
+		
+		// try to get the passed file
+		File f = new File(args[0]);
+		
+		if (!f.exists() || f.isDirectory()) {
+			System.err.println("File not found or is a directory: " + args[0]);
+			System.out.println(USAGE);
+			System.exit(1);
+		}
+		
+		try {
+			// read the input graph
+			System.out.println("Reading graph from " + args[0] + "...");
+			
+			GZIPInputStream zipIn = new GZIPInputStream(new FileInputStream(f));
+			WeightedGraph<WeightedEdge> graph =
+				new DIMACSGraphParser(false).readDIMACSGraph(zipIn);
+			zipIn.close();
+			
+			// write the output graph
+			System.out.println("Writing graph to " + args[1] + "...");
+			
+			FileOutputStream out = new FileOutputStream(args[1]);
+			new CompressedSparseRowGraphWriter().writeGraph(graph, out);
+			out.close();
+		} catch (IOException e) {
+			System.err.println("An I/O error has occured: " + e.getMessage());
+			System.exit(1);
+		} catch (IllegalArgumentException e) {
+			System.err.println("The specified file does not contain a " +
+					"graph in DIMACS input format.");
+			System.exit(1);
+		}
+		
+		System.out.println("Done.");
+	}
+}
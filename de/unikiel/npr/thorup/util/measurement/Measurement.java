@@ -3,12 +3,18 @@ package de.unikiel.npr.thorup.util.measurement;
 import java.util.Scanner;
 
 import de.unikiel.npr.thorup.algs.Dijkstra;
-import de.unikiel.npr.thorup.algs.Kruskal;
+import de.unikiel.npr.thorup.algs.BucketKruskal;
 import de.unikiel.npr.thorup.algs.Thorup;
 import de.unikiel.npr.thorup.ds.ArrayPriorityQueue;
+import de.unikiel.npr.thorup.ds.ArraySplitFindminStructure;
+import de.unikiel.npr.thorup.ds.ArrayUnionFindStructure;
+import de.unikiel.npr.thorup.ds.DaryHeap;
 import de.unikiel.npr.thorup.ds.FibonacciHeap;
+import de.unikiel.npr.thorup.ds.PairingHeap;
+import de.unikiel.npr.thorup.ds.RadixHeap;
+import de.unikiel.npr.thorup.ds.SegmentTreeSplitFindminStructure;
+import de.unikiel.npr.thorup.ds.SplitFindminStructureAdapter;
 import de.unikiel.npr.thorup.ds.SplitFindminStructureGabow;
-import de.unikiel.npr.thorup.ds.UnionFindStructureTarjan;
 import de.unikiel.npr.thorup.ds.graph.AdjacencyListWeightedDirectedGraph;
 import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
 
@@ -23,6 +29,13 @@ import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
  * 		1.0, 09/17/09
  */
 public abstract class Measurement {
+	/**
+	 * The names of all split-findmin structures <i>Thorup</i>'s algorithm can
+	 * be run with.
+	 */
+	public static final String[] SPLIT_FINDMIN_STRUCTURES =
+		{ "Gabow", "Array", "SegmentTree" };
+	
 	/**
 	 * The number of passes to take the average of.
 	 */
@@ -48,6 +61,12 @@ public abstract class Measurement {
 	 */
 	int maximumEdgeWeight;
 	
+	/**
+	 * The name of the split-findmin structure used by <i>Thorup</i>'s
+	 * algorithm in this series of measurement.
+	 */
+	String splitFindminStructure;
+	
 	/**
 	 * The value of the current performance test which is increased step by
 	 * step.
@@ -85,7 +104,7 @@ public abstract class Measurement {
 	 * current performance test and midnight, January 1, 1970 UTC.
 	 */
 	long stop;
-
+	
 	/**
 	 * The running times of the most recent performance tests to compute the
 	 * average of.
@@ -104,6 +123,31 @@ public abstract class Measurement {
 	 */
 	long[] timesDijkstraFibHeap;
 	
+	/**
+	 * The running times of <i>Dijkstra</i>'s algorithm using a <i>d</i>-ary
+	 * heap in the most recent performance tests.
+	 */
+	long[] timesDijkstraDaryHeap;
+	
+	/**
+	 * The running times of <i>Dijkstra</i>'s algorithm using a pairing heap
+	 * in the most recent performance tests.
+	 */
+	long[] timesDijkstraPairingHeap;
+	
+	/**
+	 * The running times of <i>Dijkstra</i>'s algorithm using a radix heap in
+	 * the most recent performance tests.
+	 */
+	long[] timesDijkstraRadixHeap;
+	
+	/**
+	 * The running times of <i>Dijkstra</i>'s algorithm using the priority
+	 * queue chosen automatically for the edge weights in the most recent
+	 * performance tests.
+	 */
+	long[] timesDijkstraAutomatic;
+	
 	/**
 	 * The times required for constructing the <i>msb</i>-minimum spanning trees
 	 * for <i>Thorup</i>'s algorithm in the most recent performance tests.
@@ -148,6 +192,10 @@ public abstract class Measurement {
 		
 		timesDijkstraArrayHeap = new long[numberOfSteps];
 		timesDijkstraFibHeap = new long[numberOfSteps];
+		timesDijkstraDaryHeap = new long[numberOfSteps];
+		timesDijkstraPairingHeap = new long[numberOfSteps];
+		timesDijkstraRadixHeap = new long[numberOfSteps];
+		timesDijkstraAutomatic = new long[numberOfSteps];
 		timesThorupMST = new long[numberOfSteps];
 		timesThorupDS = new long[numberOfSteps];
 		timesThorupVisit = new long[numberOfSteps];
@@ -171,7 +219,7 @@ public abstract class Measurement {
 			
 			System.out.println(" done: Generated graph has " +
 					graph.getNumberOfEdges() + " edges.");
-
+			
 			
 			// run Dijkstra's algorithm with an array heap and take the time
 			System.out.print("Running Dijkstra with an array priority " +
@@ -188,11 +236,11 @@ public abstract class Measurement {
 				
 				timesToComputeTheAverageOf[pass] = stop - start;
 			}
-	
+			
 			// compute the average
 			timesDijkstraArrayHeap[currentStep] =
 				getAverage(timesToComputeTheAverageOf);
-					
+			
 			// show the result
 			System.out.println(" took " + timesDijkstraArrayHeap[currentStep] +
 					" ms (average of " + numberOfPasses + " passes).");
@@ -209,15 +257,106 @@ public abstract class Measurement {
 				
 				timesToComputeTheAverageOf[pass] = stop - start;
 			}
-	
+			
 			// compute the average
 			timesDijkstraFibHeap[currentStep] =
 				getAverage(timesToComputeTheAverageOf);
-					
+			
 			// show the result
 			System.out.println(" took " + timesDijkstraFibHeap[currentStep] +
 					" ms (average of " + numberOfPasses + " passes).");
-	
+			
+			
+			// run Dijkstra's algorithm with a pairing heap and take the time
+			System.out.print("Running Dijkstra with a pairing heap...");
+			
+			PairingHeap pairingHeap = new PairingHeap(numberOfVerticesCurrent);
+			
+			for (int pass = 0; pass < numberOfPasses; pass++) {
+				start = System.currentTimeMillis();
+				dijkstra.findShortestPaths(graph, 0, pairingHeap);
+				stop = System.currentTimeMillis();
+				
+				timesToComputeTheAverageOf[pass] = stop - start;
+			}
+			
+			// compute the average
+			timesDijkstraPairingHeap[currentStep] =
+				getAverage(timesToComputeTheAverageOf);
+			
+			// show the result
+			System.out.println(" took " +
+					timesDijkstraPairingHeap[currentStep] + " ms (average of " +
+					numberOfPasses + " passes).");
+			
+			
+			// run Dijkstra's algorithm with a d-ary heap and take the time
+			System.out.print("Running Dijkstra with a d-ary heap...");
+			
+			DaryHeap daryHeap = new DaryHeap(numberOfVerticesCurrent);
+			
+			for (int pass = 0; pass < numberOfPasses; pass++) {
+				start = System.currentTimeMillis();
+				dijkstra.findShortestPaths(graph, 0, daryHeap);
+				stop = System.currentTimeMillis();
+				
+				timesToComputeTheAverageOf[pass] = stop - start;
+			}
+			
+			// compute the average
+			timesDijkstraDaryHeap[currentStep] =
+				getAverage(timesToComputeTheAverageOf);
+			
+			// show the result
+			System.out.println(" took " + timesDijkstraDaryHeap[currentStep] +
+					" ms (average of " + numberOfPasses + " passes).");
+			
+			
+			// run Dijkstra's algorithm with a radix heap and take the time
+			System.out.print("Running Dijkstra with a radix heap...");
+			
+			RadixHeap radixHeap = new RadixHeap(numberOfVerticesCurrent);
+			
+			for (int pass = 0; pass < numberOfPasses; pass++) {
+				start = System.currentTimeMillis();
+				dijkstra.findShortestPaths(graph, 0, radixHeap);
+				stop = System.currentTimeMillis();
+				
+				timesToComputeTheAverageOf[pass] = stop - start;
+			}
+			
+			// compute the average
+			timesDijkstraRadixHeap[currentStep] =
+				getAverage(timesToComputeTheAverageOf);
+			
+			// show the result
+			System.out.println(" took " + timesDijkstraRadixHeap[currentStep] +
+					" ms (average of " + numberOfPasses + " passes).");
+			
+			
+			/*
+			 * run Dijkstra's algorithm with an automatically chosen priority
+			 * queue and take the time
+			 */
+			System.out.print("Running Dijkstra with an automatically " +
+					"chosen queue...");
+			
+			for (int pass = 0; pass < numberOfPasses; pass++) {
+				start = System.currentTimeMillis();
+				dijkstra.findShortestPaths(graph, 0);
+				stop = System.currentTimeMillis();
+				
+				timesToComputeTheAverageOf[pass] = stop - start;
+			}
+			
+			// compute the average
+			timesDijkstraAutomatic[currentStep] =
+				getAverage(timesToComputeTheAverageOf);
+			
+			// show the result
+			System.out.println(" took " + timesDijkstraAutomatic[currentStep] +
+					" ms (average of " + numberOfPasses + " passes).");
+			
 			
 			/*
 			 * construct the msb-minimum spanning tree for Thorup's algorithm
@@ -230,16 +369,16 @@ public abstract class Measurement {
 			for (int pass = 0; pass < numberOfPasses; pass++) {
 				start = System.currentTimeMillis();
 				thorup.constructMinimumSpanningTree(graph,
-						new Kruskal(new UnionFindStructureTarjan<Integer>()));
+						new BucketKruskal());
 				stop = System.currentTimeMillis();
 				
 				timesToComputeTheAverageOf[pass] = stop - start;
 			}
-	
+			
 			// compute the average
 			timesThorupMST[currentStep] =
 				getAverage(timesToComputeTheAverageOf);
-					
+			
 			// show the result
 			System.out.print(" took " + timesThorupMST[currentStep] +
 					" ms for constructing the MST, ");
@@ -251,19 +390,17 @@ public abstract class Measurement {
 			 */
 			for (int pass = 0; pass < numberOfPasses; pass++) {
 				start = System.currentTimeMillis();
-				thorup.constructOtherDataStructures
-					(new UnionFindStructureTarjan<Integer>(),
-					 new SplitFindminStructureGabow<Integer>
-						(numberOfVerticesCurrent));
+				constructOtherDataStructures(thorup, splitFindminStructure,
+						numberOfVerticesCurrent);
 				stop = System.currentTimeMillis();
 				
 				timesToComputeTheAverageOf[pass] = stop - start;
 			}
-	
+			
 			// compute the average
 			timesThorupDS[currentStep] =
 				getAverage(timesToComputeTheAverageOf);
-					
+			
 			// show the result
 			System.out.print(timesThorupDS[currentStep] +
 					" ms for constructing the other data structures,");
@@ -272,22 +409,20 @@ public abstract class Measurement {
 			// run Thorup's algorithm and take the time
 			for (int pass = 0; pass < numberOfPasses; pass++) {
 				if (pass > 0) {
-					thorup.cleanUpBetweenQueries
-						(new SplitFindminStructureGabow<Integer>
-							(graph.getNumberOfVertices()));
+					thorup.cleanUpBetweenQueries();
 				}
-
+				
 				start = System.currentTimeMillis();
 				thorup.findShortestPaths(0);
 				stop = System.currentTimeMillis();
 				
 				timesToComputeTheAverageOf[pass] = stop - start;
 			}
-	
+			
 			// compute the average
 			timesThorupVisit[currentStep] =
 				getAverage(timesToComputeTheAverageOf);
-					
+			
 			// show the result
 			System.out.println(" and " + timesThorupVisit[currentStep] +
 					" ms for visiting all vertices (average of " +
@@ -320,6 +455,26 @@ public abstract class Measurement {
 			writeLatexTableRow(timesDijkstraFibHeap);
 			System.out.println();
 			
+			System.out.println("All times of Dijkstra with pairing heap:");
+			writeTableColumn(timesDijkstraPairingHeap);
+			writeLatexTableRow(timesDijkstraPairingHeap);
+			System.out.println();
+			
+			System.out.println("All times of Dijkstra with d-ary heap:");
+			writeTableColumn(timesDijkstraDaryHeap);
+			writeLatexTableRow(timesDijkstraDaryHeap);
+			System.out.println();
+			
+			System.out.println("All times of Dijkstra with radix heap:");
+			writeTableColumn(timesDijkstraRadixHeap);
+			writeLatexTableRow(timesDijkstraRadixHeap);
+			System.out.println();
+			
+			System.out.println("All times of Dijkstra with automatic queue:");
+			writeTableColumn(timesDijkstraAutomatic);
+			writeLatexTableRow(timesDijkstraAutomatic);
+			System.out.println();
+			
 			System.out.println("All times of Thorup (construct MST):");
 			writeTableColumn(timesThorupMST);
 			writeLatexTableRow(timesThorupMST);
@@ -386,7 +541,13 @@ public abstract class Measurement {
 		
 		System.out.print("Please specify the the maximum edge weight: ");
 		maximumEdgeWeight = in.nextInt();
-
+		
+		do {
+			System.out.print("Please specify the split-findmin structure " +
+					"to use for Thorup (Gabow, Array or SegmentTree): ");
+			splitFindminStructure = in.next();
+		} while (!isSplitFindminStructure(splitFindminStructure));
+		
 		readValuesFromUserCustom();
 		
 		System.out.print("Do you want to write the table columns to the " +
@@ -395,6 +556,59 @@ public abstract class Measurement {
 		writeTableColumns = (in.nextLine()).equals("Y");
 	}
 	
+	/**
+	 * Checks whether the passed name is the name of a split-findmin structure
+	 * <i>Thorup</i>'s algorithm can be run with.
+	 * 
+	 * @see #SPLIT_FINDMIN_STRUCTURES
+	 * @param name
+	 * 		the name to check
+	 * @return
+	 * 		<code>true</code>, if the passed name is the name of a
+	 * 		split-findmin structure, and <code>false</code> otherwise
+	 */
+	public static boolean isSplitFindminStructure(String name) {
+		for (int i = 0; i < SPLIT_FINDMIN_STRUCTURES.length; i++) {
+			if (SPLIT_FINDMIN_STRUCTURES[i].equals(name)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Prepares the passed instance of <i>Thorup</i>'s algorithm for its first
+	 * query, using the split-findmin structure with the specified name for
+	 * its unvisited data structure.
+	 * 
+	 * @see #SPLIT_FINDMIN_STRUCTURES
+	 * @param thorup
+	 * 		the instance of <i>Thorup</i>'s algorithm to prepare
+	 * @param splitFindminStructure
+	 * 		the name of the split-findmin structure to use
+	 * @param n
+	 * 		the number of vertices of the graph of the passed instance
+	 */
+	public static void constructOtherDataStructures(Thorup thorup,
+			String splitFindminStructure, int n) {
+		
+		if (splitFindminStructure.equals("Array")) {
+			thorup.constructOtherDataStructures
+				(new ArrayUnionFindStructure(n),
+				 new ArraySplitFindminStructure(n));
+		} else if (splitFindminStructure.equals("SegmentTree")) {
+			thorup.constructOtherDataStructures
+				(new ArrayUnionFindStructure(n),
+				 new SegmentTreeSplitFindminStructure(n));
+		} else {
+			thorup.constructOtherDataStructures
+				(new ArrayUnionFindStructure(n),
+				 new SplitFindminStructureAdapter
+				 	(new SplitFindminStructureGabow<Integer>(n), n));
+		}
+	}
+	
 	/**
 	 * Computes and returns the average of the values in the passed
 	 * <code>long</code> array.
@@ -7,13 +7,13 @@ import java.util.LinkedList;
 import java.util.zip.GZIPInputStream;
 
 import de.unikiel.npr.thorup.algs.Dijkstra;
-import de.unikiel.npr.thorup.algs.Kruskal;
+import de.unikiel.npr.thorup.algs.BucketKruskal;
 import de.unikiel.npr.thorup.algs.Thorup;
 import de.unikiel.npr.thorup.ds.FibonacciHeap;
-import de.unikiel.npr.thorup.ds.SplitFindminStructureGabow;
-import de.unikiel.npr.thorup.ds.UnionFindStructureTarjan;
-import de.unikiel.npr.thorup.ds.graph.AdjacencyListWeightedDirectedGraph;
+import de.unikiel.npr.thorup.ds.PriorityQueueItem;
+import de.unikiel.npr.thorup.ds.graph.MappedCompressedSparseRowGraph;
 import de.unikiel.npr.thorup.ds.graph.WeightedEdge;
+import de.unikiel.npr.thorup.ds.graph.WeightedGraph;
 import de.unikiel.npr.thorup.util.DIMACSGraphParser;
 
 /**
@@ -32,34 +32,47 @@ public class MeasurementRepetitiveQueries {
 	 * is passed.
 	 */
 	public static final String USAGE = "MeasurementRepetitiveQueries " +
-			"<zippedDIMACSGraphFile> [maximumNumberOfQueries]";
-
+			"<zippedDIMACSGraphFile|csrGraphFile> [maximumNumberOfQueries " +
+			"[Gabow|Array|SegmentTree]]";
+	
 	/**
 	 * The default maximum number of queries done in this series of measurement.
 	 */
 	public static final int DEFAULT_MAXIMUM_NUMBER_OF_QUERIES = 10;
-
-
+	
+	/**
+	 * The name of the split-findmin structure used by <i>Thorup</i>'s
+	 * algorithm by default.
+	 */
+	public static final String DEFAULT_SPLIT_FINDMIN_STRUCTURE = "Gabow";
+	
+	
 	/**
 	 * Reads a connected, weighted, undirected graph in DIMACS format from the
-	 * passed file and runs a series of measurent for running the algorithms by
-	 * <i>Dijkstra</i> and <i>Thorup</i> several times on the read graph,
-	 * measuring their performance for repetitive queries.<br>
+	 * passed file, or maps a graph in binary compressed sparse row format if
+	 * the name of the passed file ends with <code>.csr</code>, and runs a
+	 * series of measurent for running the algorithms by <i>Dijkstra</i> and
+	 * <i>Thorup</i> several times on the read graph, measuring their
+	 * performance for repetitive queries.<br>
 	 * <br>
 	 * The series of measurent finishes as soon as <i>Thorup</i>'s algorithm has
 	 * caught up with the one by <i>Dijkstra</i>, or when the maximum number
 	 * of queries has been made.
 	 * 
 	 * @see #DEFAULT_MAXIMUM_NUMBER_OF_QUERIES
+	 * @see #DEFAULT_SPLIT_FINDMIN_STRUCTURE
 	 * @param args
-	 * 		<code>args[0]</code> is the file to read the input graph from, and
+	 * 		<code>args[0]</code> is the file to read the input graph from,
 	 * 		<br>
 	 * 		<code>args[1]</code> is the maximum number of queries made
-	 * 		(optional)
+	 * 		(optional), and<br>
+	 * 		<code>args[2]</code> is the name of the split-findmin structure
+	 * 		used by <i>Thorup</i>'s algorithm (optional)
 	 */
+	@SuppressWarnings("unchecked")
 	public static void main(String[] args) {
 		// check the number of command-line arguments
-		if (args.length < 1 || args.length > 2) {
+		if (args.length < 1 || args.length > 3) {
 			System.out.println(USAGE);
 			System.exit(1);
 		}
@@ -67,6 +80,7 @@ public class MeasurementRepetitiveQueries {
 		// initialize all variables
 		int numberOfQueries = 0;
 		int maximumNumberOfQueries = DEFAULT_MAXIMUM_NUMBER_OF_QUERIES;
+		String splitFindminStructure = DEFAULT_SPLIT_FINDMIN_STRUCTURE;
 		
 		long start;
 		long stop;
@@ -104,62 +118,84 @@ public class MeasurementRepetitiveQueries {
 			}
 		}
 		
+		// try to read the split-findmin structure to use
+		if (args.length > 2) {
+			splitFindminStructure = args[2];
+			
+			if (!Measurement.isSplitFindminStructure(splitFindminStructure)) {
+				System.err.println(args[2] + " is no valid split-findmin " +
+						"structure.");
+				System.out.println(USAGE);
+				System.exit(1);
+			}
+		}
+		
 		// try to read the input graph
 		System.out.println("Reading graph from " + args[0] + "...");
-		AdjacencyListWeightedDirectedGraph<WeightedEdge> graph = null;
+		WeightedGraph<WeightedEdge> graph = null;
 		
 		try {
-			// construct new input stream to the file
-			GZIPInputStream zipIn = new GZIPInputStream(new FileInputStream(f));
-			
-			// create a memory representation of the graph
-			boolean verbose = (args.length == 2 && args[1].equals("-verbose"));
-		graph =	new DIMACSGraphParser(verbose).readDIMACSGraph(zipIn);
+			if (args[0].endsWith(".csr")) {
+				// map the graph into memory
+				graph = new MappedCompressedSparseRowGraph(f);
+			} else {
+				// construct new input stream to the file
+				GZIPInputStream zipIn =
+					new GZIPInputStream(new FileInputStream(f));
+				
+				// create a memory representation of the graph
+				boolean verbose =
+					(args.length == 2 && args[1].equals("-verbose"));
+				graph =	new DIMACSGraphParser(verbose).readDIMACSGraph(zipIn);
+			}
 		} catch (IOException e) {
 			System.err.println("An I/O error has occured reading from the " +
 					"specified file.");
 			System.exit(1);
 		} catch (IllegalArgumentException e) {
 			System.err.println("The specified file does not contain a " +
-					"graph in DIMACS input format.");
+					"graph in DIMACS input format or compressed sparse row " +
+					"format.");
 			System.exit(1);
 		}
-
+		
 		System.out.println("Graph has been read: Has " +
 				graph.getNumberOfVertices() + " vertices and " +
 				graph.getNumberOfEdges() + " edges.");
 		
 		
-		// prepare the algorithms
+		// prepare the algorithms, reusing the heap of Dijkstra for all queries
 		Dijkstra dijkstra = new Dijkstra();
+		FibonacciHeap<Integer> fibonacciHeap =
+			new FibonacciHeap<Integer>(graph.getNumberOfVertices());
+		PriorityQueueItem<?>[] items =
+			new PriorityQueueItem<?>[graph.getNumberOfVertices()];
 		
 		System.out.print("Preparing Thorup...");
 		Thorup thorup = new Thorup();
 		
 		start = System.currentTimeMillis();
 		thorup.constructMinimumSpanningTree(graph,
-				new Kruskal(new UnionFindStructureTarjan<Integer>()));
+				new BucketKruskal());
 		stop = System.currentTimeMillis();
 		
 		mostRecentTimeThorupVisit += stop - start;
-
+		
 		// show the result
 		System.out.print(" took " + mostRecentTimeThorupVisit +
 				" ms for constructing the MST, ");
-
+		
 		start = System.currentTimeMillis();
-		thorup.constructOtherDataStructures
-			(new UnionFindStructureTarjan<Integer>(),
-			 new SplitFindminStructureGabow<Integer>
-				(graph.getNumberOfVertices()));
+		Measurement.constructOtherDataStructures(thorup,
+				splitFindminStructure, graph.getNumberOfVertices());
 		stop = System.currentTimeMillis();
 		
 		mostRecentTimeThorupVisit += stop - start;
-
+		
 		// show the result
 		System.out.println("and " + mostRecentTimeThorupVisit +
 				" ms for constructing the other data structures.");
-
+		
 		
 		while (mostRecentTimeThorupVisit > mostRecentTimeDijkstraFibHeap &&
 			   numberOfQueries <= maximumNumberOfQueries) {
@@ -168,13 +204,13 @@ public class MeasurementRepetitiveQueries {
 			System.out.print("Running Dijkstra with a Fibonacci heap...");
 			
 			start = System.currentTimeMillis();
-			dijkstra.findShortestPaths(graph, numberOfQueries,
-					new FibonacciHeap<Integer>());
+			dijkstra.findShortestPaths(graph, numberOfQueries, fibonacciHeap,
+					items);
 			stop = System.currentTimeMillis();
 			
 			mostRecentTimeDijkstraFibHeap += stop - start;
 			accumulatedTimesDijkstraFibHeap.add(mostRecentTimeDijkstraFibHeap);
-	
+			
 			// show the result
 			System.out.println(" took " + (stop - start) +
 					" ms for this query and " + mostRecentTimeDijkstraFibHeap +
@@ -187,9 +223,7 @@ public class MeasurementRepetitiveQueries {
 			
 			if (numberOfQueries > 0) {
 				start = System.currentTimeMillis();
-				thorup.cleanUpBetweenQueries
-					(new SplitFindminStructureGabow<Integer>
-						(graph.getNumberOfVertices()));
+				thorup.cleanUpBetweenQueries();
 				stop = System.currentTimeMillis();
 				
 				mostRecentTimeThorupVisit += stop - start;
@@ -204,12 +238,12 @@ public class MeasurementRepetitiveQueries {
 			
 			mostRecentTimeThorupVisit += stop - start;
 			accumulatedTimesThorupVisit.add(mostRecentTimeThorupVisit);
-					
+			
 			// show the result
 			System.out.println(" took " + (stop - start) +
 					" ms for this query and " + mostRecentTimeThorupVisit +
 					" ms in total.");
-
+			
 			
 			// check the integrety of all results
 			System.out.println("Checking the results... ");
@@ -256,7 +290,7 @@ public class MeasurementRepetitiveQueries {
 		System.out.println();
 		
 		System.out.println("Accumulated running times of Thorup:");
-			
+		
 		for (Long cumulatedRunningTime : accumulatedTimesThorupVisit) {
 			System.out.println(cumulatedRunningTime);
 		}
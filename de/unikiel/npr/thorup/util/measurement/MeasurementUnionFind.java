@@ -0,0 +1,270 @@
+package de.unikiel.npr.thorup.util.measurement;
+
+import java.util.Random;
+
+import de.unikiel.npr.thorup.ds.ArrayUnionFindStructure;
+import de.unikiel.npr.thorup.ds.ConcurrentUnionFindStructure;
+import de.unikiel.npr.thorup.ds.IntUnionFindStructure;
+import de.unikiel.npr.thorup.ds.UnionFindStructureAdapter;
+import de.unikiel.npr.thorup.ds.UnionFindStructureTarjan;
+
+/**
+ * A series of measurent for merging random pairs of elements using the
+ * sequential union-find structures and the concurrent one with an increasing
+ * number of threads, taking the average over several passes.
+ * 
+ * @author
+ * 		<a href="mailto:agent@local">agent</a>
+ * @version
+ * 		1.0, 10/18/26
+ */
+public class MeasurementUnionFind {
+	/**
+	 * The message to show whenever a wrong number of command-line parameters
+	 * is passed.
+	 */
+	public static final String USAGE = "MeasurementUnionFind " +
+			"<numberOfElements> [numberOfThreads [numberOfPasses]]";
+	
+	/**
+	 * The default number of passes to take the average of.
+	 */
+	public static final int DEFAULT_NUMBER_OF_PASSES = 5;
+	
+	/**
+	 * The number of random pairs of elements to merge per element.
+	 */
+	public static final int UNIONS_PER_ELEMENT = 2;
+	
+	
+	/**
+	 * Merges the passed pairs of elements using the passed union-find
+	 * structure.
+	 * 
+	 * @param uf
+	 * 		the union-find structure to merge the pairs of elements in
+	 * @param us
+	 * 		the first elements of all pairs
+	 * @param vs
+	 * 		the second elements of all pairs
+	 * @param from
+	 * 		the index of the first pair to merge
+	 * @param to
+	 * 		the index after the last pair to merge
+	 * @return
+	 * 		the number of merged sets
+	 */
+	private static int merge(IntUnionFindStructure uf, int[] us, int[] vs,
+			int from, int to) {
+		
+		int merged = 0;
+		
+		for (int i = from; i < to; i++) {
+			if (uf.union(us[i], vs[i])) {
+				merged++;
+			}
+		}
+		
+		return merged;
+	}
+	
+	/**
+	 * Merges the passed pairs of elements using the passed concurrent
+	 * union-find structure, splitting them evenly among the specified number
+	 * of threads.
+	 * 
+	 * @param uf
+	 * 		the union-find structure to merge the pairs of elements in
+	 * @param us
+	 * 		the first elements of all pairs
+	 * @param vs
+	 * 		the second elements of all pairs
+	 * @param numberOfThreads
+	 * 		the number of threads to merge the pairs with
+	 * @return
+	 * 		the number of merged sets
+	 * @throws InterruptedException
+	 * 		if the current thread is interrupted while waiting for the others
+	 */
+	private static int merge(final ConcurrentUnionFindStructure uf,
+			final int[] us, final int[] vs, int numberOfThreads)
+			throws InterruptedException {
+		
+		final int[] merged = new int[numberOfThreads];
+		Thread[] threads = new Thread[numberOfThreads];
+		
+		for (int i = 0; i < numberOfThreads; i++) {
+			final int index = i;
+			final int from = (int)((long)us.length * i / numberOfThreads);
+			final int to = (int)((long)us.length * (i + 1) / numberOfThreads);
+			
+			threads[i] = new Thread() {
+				public void run() {
+					merged[index] = merge(uf, us, vs, from, to);
+				}
+			};
+			
+			threads[i].start();
+		}
+		
+		int total = 0;
+		
+		for (int i = 0; i < numberOfThreads; i++) {
+			threads[i].join();
+			total += merged[i];
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Computes and returns the average of the values in the passed
+	 * <code>long</code> array.
+	 * 
+	 * @param values
+	 * 		the values to compute the average of
+	 * @return
+	 * 		the average of the values in the passed array
+	 */
+	private static long average(long[] values) {
+		long sum = 0;
+		
+		for (long value : values) {
+			sum += value;
+		}
+		
+		return sum / values.length;
+	}
+	
+	
+	/**
+	 * Merges random pairs of elements using the union-find structure by
+	 * <i>Tarjan</i>, the primitive array union-find structure and the
+	 * concurrent one with 1, 2, 4, ... threads, checking that all of them
+	 * merge the same number of sets and showing their average running times.
+	 * 
+	 * @see #DEFAULT_NUMBER_OF_PASSES
+	 * @param args
+	 * 		<code>args[0]</code> is the number of elements,<br>
+	 * 		<code>args[1]</code> is the maximum number of threads (optional,
+	 * 		defaults to the number of available processors), and<br>
+	 * 		<code>args[2]</code> is the number of passes to take the average
+	 * 		of (optional)
+	 * @throws InterruptedException
+	 * 		if the main thread is interrupted while waiting for the others
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		// check the number of command-line arguments
+		if (args.length < 1 || args.length > 3) {
+			System.out.println(USAGE);
+			System.exit(1);
+		}
+		
+		int n = 0;
+		int maximumNumberOfThreads =
+			Runtime.getRuntime().availableProcessors();
+		int numberOfPasses = DEFAULT_NUMBER_OF_PASSES;
+		
+		// try to read the parameters
+		try {
+			n = Integer.parseInt(args[0]);
+			
+			if (args.length > 1) {
+				maximumNumberOfThreads = Integer.parseInt(args[1]);
+			}
+			
+			if (args.length > 2) {
+				numberOfPasses = Integer.parseInt(args[2]);
+			}
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid parameter: " + e.getMessage());
+			System.out.println(USAGE);
+			System.exit(1);
+		}
+		
+		if (n < 1 || maximumNumberOfThreads < 1 || numberOfPasses < 1) {
+			System.err.println("All parameters must be positive.");
+			System.out.println(USAGE);
+			System.exit(1);
+		}
+		
+		// generate the random pairs to merge
+		Random random = new Random();
+		
+		int[] us = new int[n * UNIONS_PER_ELEMENT];
+		int[] vs = new int[n * UNIONS_PER_ELEMENT];
+		
+		for (int i = 0; i < us.length; i++) {
+			us[i] = random.nextInt(n);
+			vs[i] = random.nextInt(n);
+		}
+		
+		long[] times = new long[numberOfPasses];
+		long start;
+		long stop;
+		int merged = 0;
+		
+		// run the union-find structure by Tarjan
+		for (int pass = 0; pass < numberOfPasses; pass++) {
+			IntUnionFindStructure uf = new UnionFindStructureAdapter
+				(new UnionFindStructureTarjan<Integer>(), n);
+			
+			start = System.currentTimeMillis();
+			merged = merge(uf, us, vs, 0, us.length);
+			stop = System.currentTimeMillis();
+			
+			times[pass] = stop - start;
+		}
+		
+		System.out.println("Tarjan: " + average(times) + " ms, " + merged +
+				" sets merged.");
+		
+		int expected = merged;
+		
+		// run the primitive array union-find structure
+		ArrayUnionFindStructure array = new ArrayUnionFindStructure(n);
+		
+		for (int pass = 0; pass < numberOfPasses; pass++) {
+			array.reset();
+			
+			start = System.currentTimeMillis();
+			merged = merge(array, us, vs, 0, us.length);
+			stop = System.currentTimeMillis();
+			
+			times[pass] = stop - start;
+		}
+		
+		System.out.println("Array: " + average(times) + " ms, " + merged +
+				" sets merged.");
+		
+		if (merged != expected) {
+			System.err.println("ERROR: The array union-find structure " +
+					"merged " + merged + " sets instead of " + expected + ".");
+		}
+		
+		// run the concurrent union-find structure
+		ConcurrentUnionFindStructure concurrent =
+			new ConcurrentUnionFindStructure(n);
+		
+		for (int t = 1; t <= maximumNumberOfThreads; t *= 2) {
+			for (int pass = 0; pass < numberOfPasses; pass++) {
+				concurrent.reset();
+				
+				start = System.currentTimeMillis();
+				merged = merge(concurrent, us, vs, t);
+				stop = System.currentTimeMillis();
+				
+				times[pass] = stop - start;
+			}
+			
+			System.out.println("Concurrent with " + t + " threads: " +
+					average(times) + " ms, " + merged + " sets merged.");
+			
+			if (merged != expected) {
+				System.err.println("ERROR: The concurrent union-find " +
+						"structure merged " + merged + " sets instead of " +
+						expected + ".");
+			}
+		}
+	}
+}